@@ -0,0 +1,314 @@
+package com.rhkr8521.mapping.api.aws.image;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 변환기
+ * - 원본을 한 번만 디코딩하여 규격별(썸네일, 상세 등)로 축소 후 재인코딩
+ * - 재인코딩 과정에서 EXIF 등 메타데이터(위치 정보 포함)는 제거하고, 회전 정보만 픽셀에 반영
+ * - CPU 사용량이 큰 작업이므로 제한된 작업 스레드 풀에서 실행
+ * - 변환할 수 없는 이미지(GIF, 지원하지 않는 형식, 너무 큰 이미지, 작업 대기열 초과)는 Optional.empty() 반환
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final String JPEG = "jpg";
+    private static final String PNG = "png";
+
+    // 0 이면 CPU 코어 수만큼 사용
+    @Value("${image.processing.threads:0}")
+    private int threads;
+
+    @Value("${image.processing.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${image.processing.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 이보다 큰 파일과 픽셀 수의 이미지는 변환하지 않고 원본 저장 (메모리 보호)
+    @Value("${image.processing.max-bytes:31457280}")
+    private long maxBytes;
+
+    @Value("${image.processing.max-pixels:50000000}")
+    private long maxPixels;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-process-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Optional<ProcessedImage> process(MultipartFile file, List<ImageRendition> renditions) throws IOException {
+        if (file.getSize() > maxBytes || "image/gif".equalsIgnoreCase(file.getContentType())) {
+            return Optional.empty();
+        }
+
+        byte[] source = file.getBytes();
+        Future<Optional<ProcessedImage>> future;
+        try {
+            future = executor.submit(() -> process(source, renditions));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열 초과, 원본으로 저장합니다: {}", file.getOriginalFilename());
+            return Optional.empty();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 변환 중단", e);
+        } catch (ExecutionException e) {
+            log.warn("이미지 변환 실패, 원본으로 저장합니다: {} ({})", file.getOriginalFilename(), e.getCause().toString());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ProcessedImage> process(byte[] source, List<ImageRendition> renditions) throws IOException {
+        int largest = renditions.stream().mapToInt(ImageRendition::getMaxSize).max().orElse(0);
+        BufferedImage decoded = decode(source, largest);
+        if (decoded == null) {
+            return Optional.empty();
+        }
+
+        BufferedImage image = applyOrientation(decoded, readExifOrientation(source));
+        boolean alpha = image.getColorModel().hasAlpha();
+        String extension = alpha ? PNG : JPEG;
+
+        // 큰 규격부터 축소하여 다음 규격은 직전 결과에서 다시 축소
+        Map<ImageRendition, byte[]> encoded = new EnumMap<>(ImageRendition.class);
+        List<ImageRendition> ordered = renditions.stream()
+                .sorted(Comparator.comparingInt(ImageRendition::getMaxSize).reversed())
+                .toList();
+        BufferedImage current = image;
+        for (ImageRendition rendition : ordered) {
+            current = scaleToFit(current, rendition.getMaxSize(), alpha);
+            encoded.put(rendition, encode(current, extension));
+        }
+
+        return Optional.of(new ProcessedImage(extension, alpha ? "image/png" : "image/jpeg", encoded));
+    }
+
+    // 가장 큰 규격보다 충분히 큰 이미지는 서브샘플링으로 줄여서 디코딩
+    private BufferedImage decode(byte[] source, int largest) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = largest > 0 ? Math.max(1, Math.max(width, height) / largest) : 1;
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxSize 가 되도록 축소 (큰 비율은 절반씩 나누어 축소하여 화질 유지)
+    private BufferedImage scaleToFit(BufferedImage image, int maxSize, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (scale == 1.0) {
+            return image.getType() == type ? image : draw(image, width, height, alpha, null);
+        }
+
+        BufferedImage current = image;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, alpha, null);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, boolean alpha, AffineTransform transform) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                // JPEG 는 투명도를 지원하지 않으므로 흰 배경 위에 그림
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            if (transform != null) {
+                graphics.drawImage(source, transform, null);
+            } else {
+                graphics.drawImage(source, 0, 0, width, height, null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, String extension) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (PNG.equals(extension)) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            // 메타데이터 없이 픽셀 데이터만 기록
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // EXIF 회전 정보(1~8)를 픽셀에 반영
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2 -> transform = new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> transform = new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> transform = new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> transform = new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> transform = new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> transform = new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> {
+                return image;
+            }
+        }
+
+        boolean swap = orientation >= 5;
+        return draw(image, swap ? h : w, swap ? w : h, image.getColorModel().hasAlpha(), transform);
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0 에서 Orientation(0x0112) 태그 조회 (없으면 1)
+    static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= data.length && (data[offset] & 0xFF) == 0xFF) {
+            int marker = data[offset + 1] & 0xFF;
+            int length = readShort(data, offset + 2, false);
+            // SOS 이후는 이미지 데이터
+            if (marker == 0xDA || length < 2) {
+                return 1;
+            }
+
+            int segment = offset + 4;
+            if (marker == 0xE1 && segment + 14 <= data.length
+                    && data[segment] == 'E' && data[segment + 1] == 'x' && data[segment + 2] == 'i' && data[segment + 3] == 'f') {
+                int tiff = segment + 6;
+                boolean littleEndian = data[tiff] == 'I';
+                int ifd = tiff + readInt(data, tiff + 4, littleEndian);
+                if (ifd < tiff || ifd + 2 > data.length) {
+                    return 1;
+                }
+
+                int entries = readShort(data, ifd, littleEndian);
+                for (int i = 0; i < entries; i++) {
+                    int entry = ifd + 2 + i * 12;
+                    if (entry + 12 > data.length) {
+                        return 1;
+                    }
+                    if (readShort(data, entry, littleEndian) == 0x0112) {
+                        int orientation = readShort(data, entry + 8, littleEndian);
+                        return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                    }
+                }
+                return 1;
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
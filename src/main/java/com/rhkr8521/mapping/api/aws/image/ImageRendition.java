@@ -0,0 +1,24 @@
+package com.rhkr8521.mapping.api.aws.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 변환 규격
+ * - maxSize: 긴 변 기준 최대 픽셀 (원본이 더 작으면 확대하지 않음)
+ * - suffix: 저장 파일명에 붙는 접미사
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageRendition {
+
+    // 목록 화면용 썸네일
+    THUMBNAIL(320, "_thumb"),
+    // 상세 화면용 이미지
+    FULL(1920, ""),
+    // 프로필 이미지
+    PROFILE(512, "");
+
+    private final int maxSize;
+    private final String suffix;
+}
@@ -0,0 +1,23 @@
+package com.rhkr8521.mapping.api.aws.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 변환된 이미지 (규격별 인코딩 결과)
+ * - 메타데이터(EXIF 등)는 포함하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProcessedImage {
+
+    private final String extension;
+    private final String contentType;
+    private final Map<ImageRendition, byte[]> renditions;
+
+    public byte[] get(ImageRendition rendition) {
+        return renditions.get(rendition);
+    }
+}
@@ -0,0 +1,21 @@
+package com.rhkr8521.mapping.api.aws.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 저장소 직접 업로드용 서명 URL
+ * - 클라이언트는 uploadUrl 로 PUT 요청 시 headers 를 그대로 포함해야 함 (서명에 포함된 헤더)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PresignedUpload {
+
+    private final String key;
+    private final String uploadUrl;
+    private final Map<String, String> headers;
+    private final LocalDateTime expiresAt;
+}
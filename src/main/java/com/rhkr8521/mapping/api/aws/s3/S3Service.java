@@ -1,25 +1,94 @@
 package com.rhkr8521.mapping.api.aws.s3;
 
+import com.rhkr8521.mapping.api.aws.image.ImageProcessor;
+import com.rhkr8521.mapping.api.aws.image.ImageRendition;
+import com.rhkr8521.mapping.api.aws.image.ProcessedImage;
+import com.rhkr8521.mapping.common.exception.BadRequestException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.core.sync.RequestBody;
 
 import java.io.IOException;
-import java.text.SimpleDateFormat;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
+    private static final DateTimeFormatter FILE_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH:mm:ss");
+    private static final List<ImageRendition> MEMO_RENDITIONS = List.of(ImageRendition.FULL, ImageRendition.THUMBNAIL);
+    // DeleteObjects 한 번에 삭제할 수 있는 최대 파일 수
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+    // 직접 업로드를 허용하는 이미지 형식 (퍼블릭 읽기로 저장되므로 스크립트를 포함할 수 있는 svg 등은 제외)
+    private static final Set<String> DIRECT_UPLOAD_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ImageProcessor imageProcessor;
+
+    // 파일 삭제 대기열 (요청 스레드와 DB 커넥션을 잡고 있지 않도록 별도 스레드에서 삭제)
+    private final ExecutorService deleteExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1000), runnable -> {
+                Thread thread = new Thread(runnable, "s3-file-delete");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     @Value("${cloud.aws.s3.bucketName}")
     private String bucketName;
@@ -27,87 +96,479 @@ public class S3Service {
     @Value("${cloud.aws.s3.domain}")
     private String domain;
 
-    public List<String> uploadMemoImages(String userIdentifier, List<MultipartFile> files) throws IOException {
+    // 이 크기 이상인 파일은 멀티파트로 업로드 (파트 크기는 S3 최소값인 5MB 이상)
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
+
+    @Value("${cloud.aws.s3.multipart-part-size-bytes:8388608}")
+    private int multipartPartSizeBytes;
+
+    @Value("${cloud.aws.s3.upload-threads:8}")
+    private int uploadThreads;
+
+    @Value("${cloud.aws.s3.delete-threads:4}")
+    private int deleteThreads;
+
+    // 직접 업로드용 서명 URL 유효 시간
+    @Value("${cloud.aws.s3.presign-expiration-seconds:600}")
+    private long presignExpirationSeconds;
+
+    // 이미지 동시 업로드용 스레드 풀 (대기열이 가득 차면 요청 스레드에서 직접 업로드)
+    private ExecutorService uploadExecutor;
+
+    // 일괄 삭제 요청을 동시에 보내기 위한 스레드 풀 (대기열이 가득 차면 호출 스레드에서 직접 삭제)
+    private ExecutorService deleteBatchExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(uploadThreads * 10), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        AtomicInteger deleteThreadCount = new AtomicInteger();
+        deleteBatchExecutor = new ThreadPoolExecutor(deleteThreads, deleteThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(deleteThreads * 10), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-delete-batch-" + deleteThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 메모 이미지 업로드
+     * - 이미지마다 상세(FULL), 썸네일(THUMBNAIL) 규격으로 변환하여 저장
+     * - 여러 이미지를 업로드 스레드 풀에서 동시에 업로드
+     * - 한 건이라도 실패하면 시작하지 않은 업로드는 건너뛰고, 이미 업로드된 파일은 삭제 후 예외 전달
+     */
+    public List<UploadedImage> uploadMemoImages(String userIdentifier, List<MultipartFile> files) throws IOException {
         String dir = "memo-images";
-        List<String> imageUrls = new ArrayList<>();
 
         // 하나의 랜덤 문자열 생성
         String randomString = RandomStringUtils.randomAlphanumeric(16);
+        String currentDateTime = LocalDateTime.now().format(FILE_DATE_TIME_FORMATTER);
 
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
-
-            String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
+        List<MultipartFile> targets = files.stream().filter(file -> !file.isEmpty()).toList();
+        List<String> baseKeys = new ArrayList<>(targets.size());
+        for (MultipartFile file : targets) {
             String originalFilename = file.getOriginalFilename();
-            String extension = "";
 
             if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
                 originalFilename = originalFilename.substring(0, originalFilename.lastIndexOf(".")); // 확장자 제거
             }
 
-            // 파일명 구성: {원파일이름}_{currentDateTime}{extension}
-            String fileName = originalFilename + "_" + currentDateTime + extension;
+            // 파일명 구성: {원파일이름}_{currentDateTime}{규격 접미사}{extension}
             // 파일 경로 구성: memo-images/{userId}/{랜덤문자}/파일명
-            String fileKey = dir + "/" + userIdentifier + "/" + randomString + "/" + fileName;
+            baseKeys.add(dir + "/" + userIdentifier + "/" + randomString + "/" + originalFilename + "_" + currentDateTime);
+        }
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
-                    .acl("public-read")
-                    .build();
+        Queue<String> uploadedUrls = new ConcurrentLinkedQueue<>();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            // AWS S3
-            //imageUrls.add(domain + "/" + fileKey);
-            // rhkr8521-Bucket
-            imageUrls.add(domain + "/" + bucketName + "/" + fileKey);
+        // 이미지가 한 장이면 스레드 전환 없이 바로 업로드
+        if (targets.size() == 1) {
+            try {
+                return List.of(uploadImage(baseKeys.get(0), targets.get(0), MEMO_RENDITIONS, new AtomicBoolean(false), uploadedUrls));
+            } catch (IOException | RuntimeException e) {
+                deleteFilesAsync(new ArrayList<>(uploadedUrls));
+                throw e;
+            }
+        }
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            String baseKey = baseKeys.get(i);
+            MultipartFile file = targets.get(i);
+            CompletableFuture<UploadedImage> upload = CompletableFuture.supplyAsync(() -> {
+                // 다른 업로드가 이미 실패했으면 시작하지 않음
+                if (failed.get()) {
+                    return null;
+                }
+                try {
+                    return uploadImage(baseKey, file, MEMO_RENDITIONS, failed, uploadedUrls);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, uploadExecutor);
+            upload.whenComplete((uploaded, e) -> {
+                if (e != null) {
+                    failed.set(true);
+                    firstFailure.completeExceptionally(e);
+                }
+            });
+            uploads.add(upload);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(all, firstFailure).join();
+        } catch (CompletionException e) {
+            // 바로 실패를 반환하고, 업로드된 파일은 진행 중인 업로드가 모두 끝난 뒤 정리
+            all.handle((result, ex) -> {
+                deleteFilesAsync(new ArrayList<>(uploadedUrls));
+                return null;
+            });
+
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
         }
 
-        return imageUrls;
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    // 직접 업로드 허용 형식 여부 (파라미터, 대소문자 무시)
+    public boolean isDirectUploadContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int separator = contentType.indexOf(';');
+        String mediaType = (separator < 0 ? contentType : contentType.substring(0, separator)).strip().toLowerCase(Locale.ROOT);
+        return DIRECT_UPLOAD_CONTENT_TYPES.contains(mediaType);
+    }
+
+    // 메모 이미지 저장 경로 (사용자별로 구분)
+    public String memoImageKeyPrefix(String userIdentifier) {
+        return "memo-images/" + userIdentifier + "/";
+    }
+
+    /**
+     * 메모 이미지 직접 업로드용 서명 URL 발급
+     * - 클라이언트가 이미지를 저장소에 바로 PUT 하므로 API 서버는 이미지 데이터를 받지 않음
+     * - 직접 업로드한 이미지는 서버에서 규격 변환을 거치지 않음 (썸네일 없음)
+     */
+    public PresignedUpload presignMemoImageUpload(String userIdentifier, String fileName, String contentType) {
+        // 서명에 Content-Type 이 포함되므로 허용된 형식으로만 업로드 가능
+        if (!isDirectUploadContentType(contentType)) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_DIRECT_UPLOAD_IMG_MIME.getMessage());
+        }
+        String originalFilename = fileName == null ? "" : fileName.replaceAll("[/\\\\]", "_");
+        String extension = extensionOf(originalFilename);
+        if (!extension.isEmpty()) {
+            originalFilename = originalFilename.substring(0, originalFilename.lastIndexOf(".")); // 확장자 제거
+        }
+
+        // 파일 경로 구성: memo-images/{userId}/{랜덤문자}/{원파일이름}_{currentDateTime}{extension}
+        String fileKey = memoImageKeyPrefix(userIdentifier) + RandomStringUtils.randomAlphanumeric(16) + "/"
+                + originalFilename + "_" + LocalDateTime.now().format(FILE_DATE_TIME_FORMATTER) + extension;
+
+        // 서버 업로드와 같이 퍼블릭 읽기 권한을 추가 (클라이언트가 같은 헤더로 요청해야 서명이 일치)
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .acl("public-read")
+                .contentType(contentType)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignExpirationSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        // host 헤더는 요청 URL 로 결정되므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUpload(fileKey, presigned.url().toString(), headers,
+                LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()));
+    }
+
+    // 저장소에 업로드된 파일 정보 조회 (없으면 빈 값)
+    public Optional<HeadObjectResponse> findFile(String fileKey) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
     }
 
     public String uploadProfileImage(String email, MultipartFile file) throws IOException {
         String dir = "profile-images";
         // 현재 날짜와 시간 가져오기
-        String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
-        // 파일 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
+        String currentDateTime = LocalDateTime.now().format(FILE_DATE_TIME_FORMATTER);
         // 이메일 + 현재날짜 + 현재시간 + 확장자 형식으로 파일 이름 설정
-        String fileName = email + "_" + currentDateTime + extension;
+        String fileName = email + "_" + currentDateTime;
         // 난수 문자열 생성 (예: 16자 길이)
         String randomString = RandomStringUtils.randomAlphanumeric(16);
         // 파일 경로에 난수 문자열 포함
-        String fileKey = dir + "/" + randomString + "/" + fileName;
+        String baseKey = dir + "/" + randomString + "/" + fileName;
+
+        Queue<String> uploadedUrls = new ConcurrentLinkedQueue<>();
+        return uploadImage(baseKey, file, List.of(ImageRendition.PROFILE), new AtomicBoolean(false), uploadedUrls)
+                .getImageUrl();
+    }
+
+    public String toFileUrl(String fileKey) {
+        // AWS S3
+        //return domain + "/" + fileKey;
+        // rhkr8521-Bucket
+        return domain + "/" + bucketName + "/" + fileKey;
+    }
+
+    /**
+     * 이미지를 규격별로 변환하여 업로드
+     * - 첫 번째 규격을 대표 이미지, THUMBNAIL 규격을 썸네일로 사용
+     * - 변환할 수 없는 이미지는 원본 그대로 업로드
+     * - 업로드에 성공한 파일 URL 은 uploadedUrls 에 기록 (실패 시 정리용)
+     */
+    private UploadedImage uploadImage(String baseKey, MultipartFile file, List<ImageRendition> renditions,
+                                      AtomicBoolean aborted, Queue<String> uploadedUrls) throws IOException {
+        Optional<ProcessedImage> processed = imageProcessor.process(file, renditions);
+        if (processed.isEmpty()) {
+            String fileKey = baseKey + extensionOf(file.getOriginalFilename());
+            uploadFile(fileKey, file, aborted);
+            String url = toFileUrl(fileKey);
+            uploadedUrls.add(url);
+            return new UploadedImage(url, url);
+        }
+
+        ProcessedImage image = processed.get();
+        Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+        for (ImageRendition rendition : renditions) {
+            if (aborted.get()) {
+                throw new IOException("다른 이미지 업로드 실패로 업로드 중단: " + baseKey);
+            }
+            String fileKey = baseKey + rendition.getSuffix() + "." + image.getExtension();
+            uploadBytes(fileKey, image.get(rendition), image.getContentType());
+            String url = toFileUrl(fileKey);
+            uploadedUrls.add(url);
+            urls.put(rendition, url);
+        }
+
+        String imageUrl = urls.get(renditions.get(0));
+        return new UploadedImage(imageUrl, urls.getOrDefault(ImageRendition.THUMBNAIL, imageUrl));
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            return originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return "";
+    }
+
+    private void uploadBytes(String fileKey, byte[] bytes, String contentType) {
         // 파일 업로드 시 퍼블릭 읽기 권한을 추가
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(fileKey)
                 .acl("public-read")
+                .contentType(contentType)
                 .build();
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-        // AWS S3
-        //return domain + "/" + fileKey;
-        // rhkr8521-Bucket
-        return domain + "/" + bucketName + "/" + fileKey;
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
+    // 파일 크기에 따라 단일 업로드 또는 멀티파트 업로드
+    private void uploadFile(String fileKey, MultipartFile file, AtomicBoolean aborted) throws IOException {
+        if (file.getSize() >= multipartThresholdBytes) {
+            uploadMultipart(fileKey, file, aborted);
+            return;
+        }
 
+        // 파일 업로드 시 퍼블릭 읽기 권한을 추가
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .acl("public-read")
+                .build();
+        try (InputStream inputStream = file.getInputStream()) {
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+        }
     }
 
-    public void deleteFile(String imageUrl) {
-        if (imageUrl != null && imageUrl.startsWith(domain)) {
-            // AWS S3
-            //String fileKey = imageUrl.replace(domain + "/", "");
-            // rhkr8521-Bucket
-            String fileKey = imageUrl.replace(domain + "/" + bucketName + "/", "");
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+    // 큰 파일은 파트 단위로 나누어 업로드하고, 실패하거나 중단되면 멀티파트 업로드 취소
+    private void uploadMultipart(String fileKey, MultipartFile file, AtomicBoolean aborted) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .acl("public-read")
+                .build()).uploadId();
+
+        try (InputStream inputStream = file.getInputStream()) {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[multipartPartSizeBytes];
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (aborted.get()) {
+                    throw new IOException("다른 이미지 업로드 실패로 업로드 중단: " + fileKey);
+                }
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build();
+                String eTag = s3Client.uploadPart(uploadPartRequest,
+                        RequestBody.fromBytes(read == buffer.length ? buffer : Arrays.copyOf(buffer, read))).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                     .bucket(bucketName)
                     .key(fileKey)
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileKey)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (Exception abortException) {
+                log.error("S3 멀티파트 업로드 취소 실패: {} ({})", fileKey, abortException.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 파일을 DeleteObjects 로 일괄 삭제
+     * - 최대 1000개씩 묶어 요청하고, 여러 묶음은 삭제 스레드 풀에서 동시에 요청
+     * - 삭제에 실패한 파일 URL 목록을 반환 (재시도용)
+     * - 이 저장소의 파일이 아닌 URL 은 무시
+     */
+    public List<String> deleteFiles(Collection<String> imageUrls) {
+        // 파일 키 -> 원본 URL
+        Map<String, String> urlsByKey = new LinkedHashMap<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl != null && imageUrl.startsWith(domain)) {
+                // AWS S3
+                //String fileKey = imageUrl.replace(domain + "/", "");
+                // rhkr8521-Bucket
+                urlsByKey.put(imageUrl.replace(domain + "/" + bucketName + "/", ""), imageUrl);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = new ArrayList<>(urlsByKey.keySet());
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            batches.add(keys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, keys.size())));
+        }
+
+        Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+        if (batches.size() == 1) {
+            failedKeys.addAll(deleteBatch(batches.get(0)));
+        } else {
+            CompletableFuture.allOf(batches.stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> failedKeys.addAll(deleteBatch(batch)), deleteBatchExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        return failedKeys.stream().map(urlsByKey::get).filter(Objects::nonNull).toList();
+    }
+
+    // 한 묶음 삭제 후 실패한 파일 키 반환 (요청 자체가 실패하면 묶음 전체를 실패로 처리)
+    private List<String> deleteBatch(List<String> keys) {
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+
+            List<String> failed = new ArrayList<>();
+            for (S3Error error : response.errors()) {
+                // 이미 없는 파일은 삭제된 것으로 처리
+                if (!"NoSuchKey".equals(error.code())) {
+                    log.warn("S3 파일 삭제 실패: {} ({})", error.key(), error.message());
+                    failed.add(error.key());
+                }
+            }
+            return failed;
+        } catch (Exception e) {
+            log.error("S3 일괄 삭제 요청 실패: {}건 ({})", keys.size(), e.getMessage());
+            return keys;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 파일 삭제
+     * - 롤백되면 삭제하지 않으므로 DB 에 남아 있는 이미지가 사라지지 않음
+     * - 트랜잭션 밖에서 호출하면 바로 삭제 대기열에 추가
+     */
+    public void deleteFilesAfterCommit(List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFilesAsync(imageUrls);
+                }
+            });
+        } else {
+            deleteFilesAsync(imageUrls);
+        }
+    }
+
+    // 파일 삭제를 대기열에 추가 (대기열이 가득 차면 호출 스레드에서 바로 삭제)
+    public void deleteFilesAsync(List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return;
+        }
+        List<String> urls = imageUrls.stream().filter(Objects::nonNull).toList();
+        if (urls.isEmpty()) {
+            return;
+        }
+        try {
+            deleteExecutor.execute(() -> deleteFilesQuietly(urls));
+        } catch (RejectedExecutionException e) {
+            deleteFilesQuietly(urls);
+        }
+    }
+
+    // 삭제 실패는 한 번 재시도하고, 그래도 실패하면 서비스 로직에 영향 주지 않도록 로그만 남김
+    private void deleteFilesQuietly(List<String> imageUrls) {
+        try {
+            List<String> failedUrls = deleteFiles(imageUrls);
+            if (!failedUrls.isEmpty()) {
+                failedUrls = deleteFiles(failedUrls);
+            }
+            for (String imageUrl : failedUrls) {
+                log.error("S3 파일 삭제 실패: {}", imageUrl);
+            }
+        } catch (Exception e) {
+            log.error("S3 파일 삭제 실패: {}건 ({})", imageUrls.size(), e.getMessage());
+        }
+    }
+
+    // 종료 시 대기 중인 삭제 작업 마무리
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+        deleteExecutor.shutdown();
+        try {
+            if (!deleteExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                deleteExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        deleteBatchExecutor.shutdown();
     }
 }
@@ -0,0 +1,23 @@
+package com.rhkr8521.mapping.api.aws.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업로드된 이미지 URL
+ * - 변환할 수 없어 원본으로 저장된 이미지는 썸네일 URL 이 원본 URL 과 같음
+ */
+@Getter
+@RequiredArgsConstructor
+public class UploadedImage {
+
+    private final String imageUrl;
+    private final String thumbnailUrl;
+
+    // 저장된 모든 파일 URL (삭제 시 사용)
+    public List<String> getFileUrls() {
+        return imageUrl.equals(thumbnailUrl) ? List.of(imageUrl) : List.of(imageUrl, thumbnailUrl);
+    }
+}
@@ -1,6 +1,7 @@
 package com.rhkr8521.mapping.api.comment.controller;
 
 import com.rhkr8521.mapping.api.comment.dto.CommentCreateDTO;
+import com.rhkr8521.mapping.api.comment.dto.CommentPageResponseDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentResponseDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentUpdateDTO;
 import com.rhkr8521.mapping.api.comment.service.CommentService;
@@ -56,7 +57,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_MEMOID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         commentService.createComment(commentCreateDTO, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
@@ -85,6 +86,32 @@ public class CommentController {
         return ApiResponse.success(SuccessStatus.SEND_COMMENT_IDS_SUCCESS, commentIds);
     }
 
+    @Operation(
+            summary = "댓글 목록 조회 API",
+            description = "메모에 달린 댓글을 최신순으로 페이지 단위 조회합니다. | 다음 페이지는 응답의 nextCursor 를 cursor 로 전달"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "게시글 ID가 입력되지 않았습니다. / 페이지 커서가 올바르지 않습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
+    })
+    @GetMapping("/list")
+    public ResponseEntity<ApiResponse<CommentPageResponseDTO>> getCommentPage(
+            @RequestParam Long memoId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        // 메모 ID 누락시 예외처리
+        if (memoId == null) {
+            throw new NotFoundException(ErrorStatus.MISSING_COMMENT_MEMOID.getMessage());
+        }
+
+        CommentPageResponseDTO commentPage = commentService.getCommentPage(memoId, cursor, size, userDetails);
+
+        return ApiResponse.success(SuccessStatus.SEND_COMMENT_LIST_SUCCESS, commentPage);
+    }
+
     @Operation(
             summary = "댓글 상세 조회 API",
             description = "특정 댓글의 상세 정보를 조회합니다."
@@ -135,7 +162,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         commentService.updateComment(commentId, commentUpdateDTO, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
@@ -161,7 +188,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         commentService.deleteComment(commentId, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
@@ -180,7 +207,7 @@ public class CommentController {
             @PathVariable Long commentId,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         commentService.toggleLike(commentId, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
     }
@@ -22,7 +22,26 @@ public class CommentResponseDTO {
     private boolean myLike;
     private boolean isBlind;
 
-    public static CommentResponseDTO fromEntity(Comment comment, boolean myLike) {
+    // 차단한 사용자의 댓글
+    public static CommentResponseDTO blocked(Comment comment, int likeCnt) {
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return CommentResponseDTO.builder()
+                .id(comment.getId())
+                .writerId(comment.getMember().getId())
+                .comment("차단된 사용자 입니다.")
+                .rating(comment.getRating())
+                .likeCnt(likeCnt)
+                .nickname("(알수없음)")
+                .profileImageUrl(null)
+                .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
+                .myLike(false)
+                .modify(comment.isModify())
+                .isBlind(true)
+                .build();
+    }
+
+    // likeCnt 는 아직 DB 에 반영되지 않은 좋아요 수까지 더한 값
+    public static CommentResponseDTO fromEntity(Comment comment, int likeCnt, boolean myLike) {
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
         // 삭제된 댓글인 경우 처리
@@ -32,7 +51,7 @@ public class CommentResponseDTO {
                     .writerId(comment.getMember().getId())
                     .comment("삭제된 댓글입니다.")
                     .rating(comment.getRating())
-                    .likeCnt(comment.getLikeCnt())
+                    .likeCnt(likeCnt)
                     .nickname("(알수없음)")
                     .profileImageUrl(null)
                     .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
@@ -49,7 +68,7 @@ public class CommentResponseDTO {
                 .writerId(comment.getMember().getId())
                 .comment(comment.getComment())
                 .rating(comment.getRating())
-                .likeCnt(comment.getLikeCnt())
+                .likeCnt(likeCnt)
                 .nickname(nickname)
                 .profileImageUrl(comment.getMember().getImageUrl())
                 .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
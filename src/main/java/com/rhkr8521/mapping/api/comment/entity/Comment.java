@@ -11,7 +11,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_memo_created_at", columnList = "memo_id, created_at"),
+        @Index(name = "idx_comment_memo_id", columnList = "memo_id, comment_id"),
+        @Index(name = "idx_comment_user", columnList = "user_id")
+})
 public class Comment extends BaseTimeEntity {
 
     @Id
@@ -23,7 +27,11 @@ public class Comment extends BaseTimeEntity {
     private String comment;
 
     private int rating;
+
+    // 좋아요 수는 ReactionCounterBuffer 의 일괄 UPDATE 로만 변경 (엔티티 저장 시 이전 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
     private int likeCnt;
+
     private boolean modify;
     private String createIp;
     private String lastModifyIp;
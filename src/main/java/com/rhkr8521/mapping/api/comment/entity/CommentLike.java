@@ -8,7 +8,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "comment_like")
+@Table(name = "comment_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_like_comment_user", columnNames = {"comment_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_comment_like_user", columnList = "user_id")
+})
 @Builder
 public class CommentLike {
 
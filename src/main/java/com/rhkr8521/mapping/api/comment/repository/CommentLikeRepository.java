@@ -2,11 +2,47 @@ package com.rhkr8521.mapping.api.comment.repository;
 
 import com.rhkr8521.mapping.api.comment.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
-    Optional<CommentLike> findByCommentIdAndMemberId(Long commentId, Long memberId);
-    void deleteAllByCommentId(Long commentId);
+    boolean existsByCommentIdAndMemberId(Long commentId, Long memberId);
+
+    // 좋아요 추가 (이미 눌렀거나 댓글/회원이 없으면 0 반환, (comment_id, user_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달
+    @Modifying
+    @Query(value = "INSERT INTO comment_like (comment_id, user_id) " +
+            "SELECT c.comment_id, u.user_id FROM comment c JOIN member u ON u.user_id = :memberId WHERE c.comment_id = :commentId " +
+            "ON DUPLICATE KEY UPDATE comment_like_id = comment_like_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.member.id = :memberId")
+    int deleteByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    // 주어진 댓글 중 회원이 좋아요를 누른 댓글 id 조회
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.member.id = :memberId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("commentIds") Collection<Long> commentIds);
+
+    // 메모에 달린 댓글의 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM Comment c WHERE c.memo.id IN :memoIds)")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+
+    // 댓글 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN :commentIds")
+    int deleteAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 회원이 누른 댓글 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 
 }
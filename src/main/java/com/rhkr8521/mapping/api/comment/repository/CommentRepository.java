@@ -2,33 +2,50 @@ package com.rhkr8521.mapping.api.comment.repository;
 
 import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByMemoOrderByCreatedAtDesc(Memo memo);
 
     List<Comment> findByMemoId(Long memoId);  // 특정 메모의 댓글 찾기
-    void deleteAllByMemoId(Long memoId);
 
-    @Query("SELECT DISTINCT c.memo FROM Comment c " +
-            "WHERE c.member.id = :userId AND c.memo.isDeleted = false " +
-            "ORDER BY c.memo.createdAt DESC")
-    List<Memo> findDistinctMemoByMemberId(@Param("userId") Long userId);
+    // 메모의 댓글을 작성자와 함께 최신순(id 역순)으로 커서 이후부터 조회 (키셋 페이지네이션)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.memo.id = :memoId AND c.id < :lastId " +
+            "ORDER BY c.id DESC")
+    List<Comment> findPageByMemoId(@Param("memoId") Long memoId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 메모에 달린 댓글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.memo.id IN :memoIds")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
 
-    // 좋아요 수 증가
+    // 댓글 일괄 삭제
     @Modifying
-    @Query("update Comment c set c.likeCnt = c.likeCnt + 1 where c.id = :commentId")
-    int incrementLikeCount(@Param("commentId") Long commentId);
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIds(@Param("commentIds") Collection<Long> commentIds);
 
-    // 좋아요 수 감소
+    // 회원이 작성한 댓글 id 를 id 순으로 조회 (데이터 정리용)
+    @Query("SELECT c.id FROM Comment c WHERE c.member.id = :memberId ORDER BY c.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원이 좋아요를 누른 댓글의 좋아요 수 감소 (회원 데이터 정리용)
     @Modifying
-    @Query("update Comment c set c.likeCnt = case when c.likeCnt > 0 then c.likeCnt - 1 else 0 end where c.id = :commentId")
-    int decrementLikeCount(@Param("commentId") Long commentId);
+    @Query("update Comment c set c.likeCnt = case when c.likeCnt > 0 then c.likeCnt - 1 else 0 end " +
+            "where c.id in (select cl.comment.id from CommentLike cl where cl.member.id = :memberId)")
+    int decrementLikeCountsLikedBy(@Param("memberId") Long memberId);
+
+    @Query("SELECT DISTINCT c.memo FROM Comment c " +
+            "WHERE c.member.id = :userId AND c.memo.isDeleted = false " +
+            "ORDER BY c.memo.createdAt DESC")
+    List<Memo> findDistinctMemoByMemberId(@Param("userId") Long userId);
 
     List<Comment> findByMemberId(Long memberId);
 
@@ -1,33 +1,38 @@
 package com.rhkr8521.mapping.api.comment.service;
 
 import com.rhkr8521.mapping.api.comment.dto.CommentCreateDTO;
+import com.rhkr8521.mapping.api.comment.dto.CommentPageResponseDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentResponseDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentUpdateDTO;
 import com.rhkr8521.mapping.api.comment.entity.Comment;
-import com.rhkr8521.mapping.api.comment.entity.CommentLike;
 import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
 import com.rhkr8521.mapping.api.member.entity.Member;
-import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.memo.cache.ReactionCache;
+import com.rhkr8521.mapping.api.memo.cache.ReactionCounterBuffer;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
+import com.rhkr8521.mapping.api.memo.event.ReactionChangedEvent;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.service.ProfanityDetectionService;
+import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.exception.UnauthorizedException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,8 +44,14 @@ public class CommentService {
     private final MemoRepository memoRepository;
     private final MemberRepository memberRepository;
     private final MemberService memberService;
-    private final MemberBlockRepository memberBlockRepository;
     private final ProfanityDetectionService profanityDetectionService;
+    private final ReactionCache reactionCache;
+    private final ReactionCounterBuffer counterBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 댓글 목록 페이지 최대 크기
+    @Value("${comment.list.max-page-size:100}")
+    private int maxPageSize;
 
     // 클라이언트 IP 추출 메소드
     private String extractClientIp(HttpServletRequest request) {
@@ -103,6 +114,70 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    // 메모의 댓글 목록 페이지 조회 (최신순 커서 기반)
+    // - 작성자는 fetch join 으로, 내 좋아요 여부는 반응 캐시(없으면 페이지 단위 일괄 조회)로 확인
+    @Transactional(readOnly = true)
+    public CommentPageResponseDTO getCommentPage(Long memoId, String cursor, int size, UserDetails userDetails) {
+        if (!memoRepository.existsById(memoId)) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        final Long userId;
+        final LongOpenHashSet blockedIds;
+        if (userDetails != null) {
+            userId = memberService.getUserId(userDetails);
+            blockedIds = memberService.getBlockedUserIds(userId);
+        } else {
+            userId = null;
+            blockedIds = LongOpenHashSet.EMPTY;
+        }
+
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<Comment> comments = commentRepository.findPageByMemoId(memoId, decodeCursor(cursor),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
+
+        // 차단하지 않은 사용자의 댓글 중 내가 좋아요를 누른 댓글 id
+        List<Long> visibleIds = pageComments.stream()
+                .filter(comment -> !blockedIds.contains(comment.getMember().getId()))
+                .map(Comment::getId)
+                .toList();
+        LongOpenHashSet likedIds = userId == null
+                ? LongOpenHashSet.EMPTY
+                : reactionCache.getLikedCommentIds(userId, visibleIds);
+
+        List<CommentResponseDTO> responses = pageComments.stream()
+                .map(comment -> {
+                    int likeCnt = counterBuffer.getCommentLikeCount(comment.getId(), comment.getLikeCnt());
+                    return blockedIds.contains(comment.getMember().getId())
+                            ? CommentResponseDTO.blocked(comment, likeCnt)
+                            : CommentResponseDTO.fromEntity(comment, likeCnt, likedIds.contains(comment.getId()));
+                })
+                .toList();
+
+        String nextCursor = hasNext ? String.valueOf(pageComments.get(pageComments.size() - 1).getId()) : null;
+
+        return CommentPageResponseDTO.builder()
+                .comments(responses)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 커서(마지막으로 조회한 댓글 id) 해석 (없으면 첫 페이지)
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+
     // 댓글 상세 조회
     @Transactional(readOnly = true)
     public CommentResponseDTO getCommentDetail(Long commentId, UserDetails userDetails) {
@@ -111,38 +186,24 @@ public class CommentService {
 
         Long userId = null;
         if (userDetails != null) {
-            userId = memberService.getUserIdByEmail(userDetails.getUsername());
+            userId = memberService.getUserId(userDetails);
         }
 
+        int likeCnt = counterBuffer.getCommentLikeCount(comment.getId(), comment.getLikeCnt());
+
         // 차단 여부 검사
         if (userId != null) {
-            Member currentUser = memberRepository.findById(userId)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-            if (memberBlockRepository.existsByBlockerAndBlocked(currentUser, comment.getMember())) {
-                DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                return CommentResponseDTO.builder()
-                        .id(comment.getId())
-                        .writerId(comment.getMember().getId())
-                        .comment("차단된 사용자 입니다.")
-                        .rating(comment.getRating())
-                        .likeCnt(comment.getLikeCnt())
-                        .nickname("(알수없음)")
-                        .profileImageUrl(null)
-                        .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
-                        .myLike(false)
-                        .modify(comment.isModify())
-                        .isBlind(true)
-                        .build();
+            if (memberService.getBlockedUserIds(userId).contains(comment.getMember().getId())) {
+                return CommentResponseDTO.blocked(comment, likeCnt);
             }
         }
 
         boolean myLike = false;
         if (userId != null) {
-            myLike = commentLikeRepository.findByCommentIdAndMemberId(commentId, userId).isPresent();
+            myLike = reactionCache.getLikedCommentIds(userId, List.of(commentId)).contains(commentId);
         }
 
-        return CommentResponseDTO.fromEntity(comment, myLike);
+        return CommentResponseDTO.fromEntity(comment, likeCnt, myLike);
     }
 
     // 댓글 수정
@@ -218,32 +279,22 @@ public class CommentService {
         commentRepository.save(comment);
     }
 
-    // 좋아요 토글
+    // 좋아요 토글 (삭제 또는 삽입 한 번으로 상태 전환, 동시 요청에도 좋아요는 한 건만 유지)
     @Transactional
     public void toggleLike(Long commentId, Long userId) {
-        // 댓글과 회원 존재 여부 체크
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage()));
-
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 좋아요 상태 확인
-        Optional<CommentLike> existingLike = commentLikeRepository.findByCommentIdAndMemberId(commentId, userId);
-
-        if (existingLike.isPresent()) {
+        if (commentLikeRepository.deleteByCommentIdAndMemberId(commentId, userId) > 0) {
             // 좋아요 취소
-            commentLikeRepository.delete(existingLike.get());
-            commentRepository.decrementLikeCount(commentId);
-        } else {
+            counterBuffer.addCommentLike(commentId, -1);
+        } else if (commentLikeRepository.insertIfAbsent(commentId, userId) > 0) {
             // 좋아요 추가
-            CommentLike articleLike = CommentLike.builder()
-                    .comment(comment)
-                    .member(member)
-                    .build();
-            commentLikeRepository.save(articleLike);
-            commentRepository.incrementLikeCount(commentId);
+            counterBuffer.addCommentLike(commentId, 1);
+        } else if (!commentRepository.existsById(commentId)) {
+            // 삽입되지 않은 경우 댓글이나 회원이 없는 경우만 예외 (동시 요청으로 이미 추가된 경우는 그대로 유지)
+            throw new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage());
+        } else if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
         }
+        eventPublisher.publishEvent(new ReactionChangedEvent(userId));
     }
 
 }
@@ -0,0 +1,46 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+import com.rhkr8521.mapping.api.member.event.MemberBlockChangedEvent;
+import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
+import com.rhkr8521.mapping.common.cache.InvalidatingCache;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 차단 목록 캐시
+ * - 차단한 사용자 id 를 LongOpenHashSet 으로 보관하여 조회 시 O(1) 포함 여부 확인
+ * - 차단/차단 해제 커밋 이후 무효화
+ */
+@Component
+public class BlockListCache {
+
+    private final MemberBlockRepository memberBlockRepository;
+    private final InvalidatingCache<Long, LongOpenHashSet> cache;
+
+    public BlockListCache(MemberBlockRepository memberBlockRepository,
+                          @Value("${member.block-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${member.block-cache.max-size:10000}") long maxSize,
+                          @Value("${spring.datasource.read-your-writes.window-millis:5000}") long invalidationWindowMillis) {
+        this.memberBlockRepository = memberBlockRepository;
+        this.cache = new InvalidatingCache<>(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(invalidationWindowMillis));
+    }
+
+    // 차단한 사용자 id 셋 조회 (캐시에 없거나 만료되었으면 DB 에서 적재)
+    public LongOpenHashSet getBlockedIds(Long blockerId) {
+        return cache.get(blockerId, id -> LongOpenHashSet.of(memberBlockRepository.findBlockedIdsByBlockerId(id)));
+    }
+
+    public void invalidate(Long blockerId) {
+        cache.invalidate(blockerId);
+    }
+
+    // 차단/차단 해제 커밋 이후 캐시 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberBlockChanged(MemberBlockChangedEvent event) {
+        invalidate(event.getBlockerId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+// 인증된 사용자 정보 (JWT 필터에서 SecurityContext 에 설정, 서비스에서 id 를 바로 조회)
+@Getter
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final boolean deleted;
+    private final List<GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long id, String email, Role role, boolean deleted) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.deleted = deleted;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.getKey()));
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getId(), member.getEmail(), member.getRole(), member.isDeleted());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    // 소셜 로그인 전용 서비스이므로 비밀번호는 사용하지 않음
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+import com.rhkr8521.mapping.api.member.event.MemberChangedEvent;
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.common.cache.InvalidatingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일 -> 인증 정보(id, 권한, 탈퇴 여부) 캐시
+ * - 클레임이 없는 기존 액세스 토큰 인증 시 사용 (클레임이 있는 토큰은 DB, 캐시 조회 없이 인증)
+ * - 서비스는 MemberPrincipal 의 id 를 바로 사용하므로 이 캐시를 거치지 않음
+ * - 회원 탈퇴/복구 커밋 이후 무효화
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final InvalidatingCache<String, MemberPrincipal> cache;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                @Value("${member.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${member.principal-cache.max-size:10000}") long maxSize,
+                                @Value("${spring.datasource.read-your-writes.window-millis:5000}") long invalidationWindowMillis) {
+        this.memberRepository = memberRepository;
+        this.cache = new InvalidatingCache<>(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(invalidationWindowMillis));
+    }
+
+    // 인증 정보 조회 (캐시에 없거나 만료되었으면 DB 에서 적재, 없는 회원은 캐시하지 않음)
+    public Optional<MemberPrincipal> get(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(email,
+                key -> memberRepository.findByEmail(key).map(MemberPrincipal::from).orElse(null)));
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    // 회원 정보 변경 커밋 이후 캐시 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        event.getEmails().forEach(this::invalidate);
+    }
+}
@@ -150,7 +150,7 @@ public class MemberController {
     @PatchMapping("/modify-nickname")
     public ResponseEntity<ApiResponse<Void>> changeNickname(@AuthenticationPrincipal UserDetails userDetails,
                                                             @RequestParam("nickname") String nickname) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         // 닉네임이 입력되지 않았을 경우 예외 처리
         if (nickname == null || nickname.isEmpty()) {
@@ -173,7 +173,7 @@ public class MemberController {
     @PatchMapping(value = "/modify-profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> changeProfileImage(@AuthenticationPrincipal UserDetails userDetails,
                                                                 @RequestParam("image") MultipartFile image) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         // 이미지 파일 검증
         if (image != null && !image.isEmpty()) {
@@ -202,7 +202,7 @@ public class MemberController {
     })
     @GetMapping("/user-info")
     public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getUserInfo(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         UserInfoResponseDTO userInfo = memberService.getUserInfo(userId);
         return ApiResponse.success(SuccessStatus.GET_USERINFO_SUCCESS, userInfo);
     }
@@ -218,7 +218,7 @@ public class MemberController {
     })
     @DeleteMapping("/withdraw")
     public ResponseEntity<ApiResponse<Void>> withdrawMember(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         memberService.withdrawMember(userId);
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMBER_SUCCESS);
     }
@@ -234,7 +234,7 @@ public class MemberController {
     @PostMapping("/block")
     public ResponseEntity<ApiResponse<Void>> blockUser(@AuthenticationPrincipal UserDetails userDetails,
                                                        @RequestParam("userId") Long userId) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long blockerId = memberService.getUserId(userDetails);
         memberService.blockUser(blockerId, userId);
         return ApiResponse.success_only(SuccessStatus.BLOCK_USER_SUCCESS);
     }
@@ -249,7 +249,7 @@ public class MemberController {
     })
     @GetMapping("/block/list")
     public ResponseEntity<ApiResponse<List<BlockedUserResponseDTO>>> getBlockedUsers(@AuthenticationPrincipal UserDetails userDetails) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long blockerId = memberService.getUserId(userDetails);
         List<BlockedUserResponseDTO> response = memberService.getBlockedUserResponseList(blockerId);
         return ApiResponse.success(SuccessStatus.SEND_BLOCK_LIST_SUCCESS, response);
     }
@@ -265,7 +265,7 @@ public class MemberController {
     @DeleteMapping("/block/{userId}")
     public ResponseEntity<ApiResponse<Void>> unblockUser(@AuthenticationPrincipal UserDetails userDetails,
                                                          @PathVariable Long userId) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long blockerId = memberService.getUserId(userDetails);
         memberService.unblockUser(blockerId, userId);
         return ApiResponse.success_only(SuccessStatus.UNBLOCK_USER_SUCCESS);
     }
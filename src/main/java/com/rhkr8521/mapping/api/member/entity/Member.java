@@ -15,7 +15,13 @@ import java.util.Collections;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Builder(toBuilder = true)  // toBuilder 옵션을 사용하여 기존 객체를 복사하는 빌더 생성 가능
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        @Index(name = "idx_member_email", columnList = "email"),
+        @Index(name = "idx_member_refresh_token", columnList = "refresh_token"),
+        @Index(name = "idx_member_social_id", columnList = "social_id"),
+        @Index(name = "idx_member_nickname", columnList = "nickname"),
+        @Index(name = "idx_member_deleted_deleted_at", columnList = "deleted, deleted_at")
+})
 @AllArgsConstructor
 public class Member extends BaseTimeEntity implements UserDetails{
 
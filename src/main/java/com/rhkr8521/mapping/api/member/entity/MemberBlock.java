@@ -8,7 +8,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "member_block")
+@Table(name = "member_block", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_block_blocker_blocked", columnNames = {"blocker_id", "blocked_id"})
+}, indexes = {
+        @Index(name = "idx_member_block_blocked", columnList = "blocked_id")
+})
 @Builder(toBuilder = true)
 public class MemberBlock extends BaseTimeEntity {
 
@@ -0,0 +1,12 @@
+package com.rhkr8521.mapping.api.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 차단/차단 해제 이벤트 (커밋 이후 차단 목록 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class MemberBlockChangedEvent {
+
+    private final Long blockerId;
+}
@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 회원 탈퇴/복구 등 인증 정보 변경 이벤트 (커밋 이후 인증 정보 캐시 무효화용, 이메일은 null 일 수 있음)
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+    private final List<String> emails;
+
+    public static MemberChangedEvent of(String... emails) {
+        return new MemberChangedEvent(Arrays.asList(emails));
+    }
+}
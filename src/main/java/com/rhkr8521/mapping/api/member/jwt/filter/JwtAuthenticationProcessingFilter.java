@@ -1,9 +1,8 @@
 package com.rhkr8521.mapping.api.member.jwt.filter;
 
-import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.cache.MemberPrincipal;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
-import com.rhkr8521.mapping.api.member.jwt.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +11,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -64,13 +62,11 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Access Token이 존재하고 유효한지 확인
-        Optional<String> accessToken = extractToken(request, accessTokenHeader)
-                .filter(jwtService::isTokenValid);
-
-        accessToken.ifPresent(token -> jwtService.extractEmail(token)
-                .ifPresent(email -> memberRepository.findByEmail(email)
-                        .ifPresent(this::setAuthentication)));
+        // Access Token이 존재하고 유효하면 토큰 클레임으로 인증 정보 설정 (요청마다 회원 조회 쿼리를 실행하지 않음)
+        extractToken(request, accessTokenHeader)
+                .map(jwtService::verify)
+                .flatMap(jwtService::extractPrincipal)
+                .ifPresent(this::setAuthentication);
 
         filterChain.doFilter(request, response);
     }
@@ -79,7 +75,7 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     private void handleRefreshToken(HttpServletResponse response, String refreshToken) {
         memberRepository.findByRefreshToken(refreshToken)
                 .ifPresent(user -> {
-                    String newAccessToken = jwtService.createAccessToken(user.getEmail());
+                    String newAccessToken = jwtService.createAccessToken(user);
                     String newRefreshToken = jwtService.createRefreshToken(user.getEmail());
 
                     // Refresh Token 업데이트
@@ -105,20 +101,9 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     // 인증 정보를 SecurityContext에 설정하는 메서드
-    private void setAuthentication(Member member) {
-        String password = member.getPassword();
-        if (password == null) {
-            password = PasswordUtil.generateRandomPassword();
-        }
-
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(member.getEmail())
-                .password(password)
-                .roles(member.getRole().name())
-                .build();
-
+    private void setAuthentication(MemberPrincipal principal) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, authoritiesMapper.mapAuthorities(userDetails.getAuthorities()));
+                principal, null, authoritiesMapper.mapAuthorities(principal.getAuthorities()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -1,12 +1,19 @@
 package com.rhkr8521.mapping.api.member.jwt.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rhkr8521.mapping.api.member.cache.MemberPrincipal;
+import com.rhkr8521.mapping.api.member.cache.MemberPrincipalCache;
 import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.entity.Role;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,15 +39,40 @@ public class JwtService {
     @Value("${jwt.refresh.expiration}")
     private Long refreshTokenExpirationPeriod;
 
+    // 액세스 토큰 클레임 (회원 id, 권한, 클레임 구조 버전)
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_VERSION = "ver";
+    private static final int TOKEN_VERSION = 1;
+
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    // 서명 알고리즘과 검증기는 스레드 안전하므로 한 번만 생성하여 재사용
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    public void init() {
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
 
-    // Access Token 생성
-    public String createAccessToken(String email) {
+    // Access Token 생성 (회원 id, 권한을 클레임으로 포함하여 요청마다 회원 조회가 필요 없도록 함)
+    public String createAccessToken(Member member) {
         Date now = new Date();
         return JWT.create()
-                .withSubject(email)
+                .withSubject(member.getEmail())
+                .withClaim(CLAIM_USER_ID, member.getId())
+                .withClaim(CLAIM_ROLE, member.getRole().name())
+                .withClaim(CLAIM_VERSION, TOKEN_VERSION)
+                .withIssuedAt(now)
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     // Refresh Token 생성
@@ -49,16 +81,16 @@ public class JwtService {
         return JWT.create()
                 .withSubject(email)
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     // Access Token과 Refresh Token 발급 및 반환
-    public Map<String, String> createAccessAndRefreshToken(String email) {
-        String accessToken = createAccessToken(email);
-        String refreshToken = createRefreshToken(email);
+    public Map<String, String> createAccessAndRefreshToken(Member member) {
+        String accessToken = createAccessToken(member);
+        String refreshToken = createRefreshToken(member.getEmail());
 
         // Refresh Token DB에 업데이트
-        updateRefreshToken(email, refreshToken);
+        updateRefreshToken(member.getEmail(), refreshToken);
 
         log.info("Access Token, Refresh Token 발급 완료");
         log.info("Access Token : {}", accessToken);
@@ -79,31 +111,50 @@ public class JwtService {
         });
     }
 
-    public boolean isTokenValid(String token) {
+    // 토큰 서명 및 만료 검증 (요청당 한 번만 수행하고 결과를 재사용)
+    public TokenVerificationResult verify(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
+            return TokenVerificationResult.valid(verifier.verify(token));
         } catch (TokenExpiredException e) {
             log.error("토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            return TokenVerificationResult.expired();
         } catch (SignatureVerificationException e) {
             log.error("토큰 서명 검증 실패: {}", e.getMessage());
-            return false;
+            return TokenVerificationResult.invalid();
         } catch (Exception e) {
             log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            return false;
+            return TokenVerificationResult.invalid();
         }
     }
 
-    public Optional<String> extractEmail(String accessToken) {
+    public boolean isTokenValid(String token) {
+        return verify(token).isValid();
+    }
+
+    // 검증된 액세스 토큰에서 인증 정보 추출
+    // - 클레임이 포함된 토큰은 DB 조회 없이 클레임으로 인증하고, 폐기 목록만 확인
+    // - 클레임이 없는 기존 토큰은 이메일로 인증 정보 캐시에서 조회
+    public Optional<MemberPrincipal> extractPrincipal(TokenVerificationResult result) {
+        if (!result.isValid()) {
+            return Optional.empty();
+        }
+
+        DecodedJWT jwt = result.getJwt();
+        if (jwt.getClaim(CLAIM_VERSION).isMissing()) {
+            return memberPrincipalCache.get(jwt.getSubject())
+                    .filter(principal -> !tokenRevocationService.isRevoked(principal.getId(), jwt.getIssuedAt()));
+        }
+
+        Long userId = jwt.getClaim(CLAIM_USER_ID).asLong();
+        String roleName = jwt.getClaim(CLAIM_ROLE).asString();
+        if (userId == null || roleName == null || tokenRevocationService.isRevoked(userId, jwt.getIssuedAt())) {
+            return Optional.empty();
+        }
+
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim("sub")
-                    .asString());
-        } catch (Exception e) {
-            log.error("액세스 토큰이 유효하지 않습니다.");
+            return Optional.of(new MemberPrincipal(userId, jwt.getSubject(), Role.valueOf(roleName), false));
+        } catch (IllegalArgumentException e) {
+            log.error("유효하지 않은 권한 클레임입니다: {}", roleName);
             return Optional.empty();
         }
     }
@@ -0,0 +1,48 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 폐기 목록 (프로세스 로컬)
+ * - 사용자별 폐기 시각을 보관하고, 그 이전에 발급된 액세스 토큰을 거부
+ * - 액세스 토큰 만료 기간이 지나면 해당 시각 이전 토큰은 어차피 만료되므로 항목 제거
+ */
+@Service
+public class TokenRevocationService {
+
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    @Value("${jwt.access.expiration}")
+    private Long accessTokenExpirationPeriod;
+
+    // 해당 사용자에게 지금까지 발급된 모든 액세스 토큰 폐기
+    public void revokeAll(Long userId) {
+        revokedAt.put(userId, System.currentTimeMillis());
+    }
+
+    // 폐기된 토큰인지 확인 (발급 시각이 없는 토큰은 폐기 이력이 있으면 거부)
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long revokedTime = revokedAt.get(userId);
+        if (revokedTime == null) {
+            return false;
+        }
+        if (issuedAt == null) {
+            return true;
+        }
+        // iat 는 초 단위이므로 같은 초에 발급된 토큰도 폐기된 것으로 처리
+        return issuedAt.getTime() / 1000 <= revokedTime / 1000;
+    }
+
+    // 만료 기간이 지난 폐기 항목 정리 (10분마다)
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - accessTokenExpirationPeriod;
+        revokedAt.values().removeIf(revokedTime -> revokedTime < cutoff);
+    }
+}
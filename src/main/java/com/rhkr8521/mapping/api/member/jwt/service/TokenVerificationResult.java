@@ -0,0 +1,38 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 토큰 검증 결과 (요청당 한 번 검증한 결과를 필터/서비스에서 재사용)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerificationResult {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    private static final TokenVerificationResult EXPIRED = new TokenVerificationResult(Status.EXPIRED, null);
+    private static final TokenVerificationResult INVALID = new TokenVerificationResult(Status.INVALID, null);
+
+    private final Status status;
+    private final DecodedJWT jwt; // 검증에 성공한 경우에만 존재
+
+    public static TokenVerificationResult valid(DecodedJWT jwt) {
+        return new TokenVerificationResult(Status.VALID, jwt);
+    }
+
+    public static TokenVerificationResult expired() {
+        return EXPIRED;
+    }
+
+    public static TokenVerificationResult invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
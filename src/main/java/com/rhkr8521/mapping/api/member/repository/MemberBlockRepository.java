@@ -3,17 +3,43 @@ package com.rhkr8521.mapping.api.member.repository;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.entity.MemberBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface MemberBlockRepository extends JpaRepository<MemberBlock, Long> {
 
-    boolean existsByBlockerAndBlocked(Member blocker, Member blocked);
-    Optional<MemberBlock> findByBlockerAndBlocked(Member blocker, Member blocked);
     List<MemberBlock> findByBlocker(Member blocker);
 
-    void deleteAllByBlockerIdOrBlockedId(Long memberId, Long memberId1);
+    // 차단 추가 (이미 차단했거나 회원이 없으면 0 반환, (blocker_id, blocked_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달
+    @Modifying
+    @Query(value = "INSERT INTO member_block (blocker_id, blocked_id, created_at, updated_at) " +
+            "SELECT b.user_id, d.user_id, NOW(6), NOW(6) FROM member b JOIN member d ON d.user_id = :blockedId " +
+            "WHERE b.user_id = :blockerId " +
+            "ON DUPLICATE KEY UPDATE id = id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    // 차단 해제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM MemberBlock mb WHERE mb.blocker.id = :blockerId AND mb.blocked.id = :blockedId")
+    int deleteByBlockerIdAndBlockedId(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    // 차단한 사용자 id 만 조회 (Member 엔티티 로딩 없이 member_block 테이블만 조회)
+    @Query("SELECT mb.blocked.id FROM MemberBlock mb WHERE mb.blocker.id = :blockerId")
+    List<Long> findBlockedIdsByBlockerId(@Param("blockerId") Long blockerId);
+
+    // 해당 회원을 차단한 사용자 id 조회
+    @Query("SELECT mb.blocker.id FROM MemberBlock mb WHERE mb.blocked.id = :blockedId")
+    List<Long> findBlockerIdsByBlockedId(@Param("blockedId") Long blockedId);
+
+    // 회원이 차단했거나 차단당한 정보 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemberBlock mb WHERE mb.blocker.id = :memberId OR mb.blocked.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
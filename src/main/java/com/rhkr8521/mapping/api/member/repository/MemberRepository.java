@@ -1,7 +1,10 @@
 package com.rhkr8521.mapping.api.member.repository;
 
 import com.rhkr8521.mapping.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,7 +18,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findBySocialId(String socialId);
 
-    List<Member> findAllByDeletedTrueAndDeletedAtBefore(LocalDateTime cutoff);
+    // 탈퇴 후 보관 기간이 지난 회원 id 를 id 순으로 조회 (데이터 정리용)
+    @Query("SELECT m.id FROM Member m WHERE m.deleted = true AND m.deletedAt < :cutoff AND m.id > :lastId ORDER BY m.id")
+    List<Long> findExpiredDeletedMemberIds(@Param("cutoff") LocalDateTime cutoff,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
 
     boolean existsByNickname(String nickname);
 }
@@ -1,22 +1,32 @@
 package com.rhkr8521.mapping.api.member.service;
 
 import com.rhkr8521.mapping.api.aws.s3.S3Service;
+import com.rhkr8521.mapping.api.member.cache.BlockListCache;
+import com.rhkr8521.mapping.api.member.cache.MemberPrincipal;
+import com.rhkr8521.mapping.api.member.cache.MemberPrincipalCache;
 import com.rhkr8521.mapping.api.member.dto.*;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.entity.MemberBlock;
 import com.rhkr8521.mapping.api.member.entity.Role;
+import com.rhkr8521.mapping.api.member.event.MemberBlockChangedEvent;
+import com.rhkr8521.mapping.api.member.event.MemberChangedEvent;
 import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
+import com.rhkr8521.mapping.api.member.jwt.service.TokenRevocationService;
 import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.exception.InternalServerException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
 import com.rhkr8521.mapping.slack.SlackNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -30,12 +40,17 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
     private final KakaoService kakaoService;
     private final S3Service s3Service;
     private final AppleService appleService;
     private final MemberBlockRepository memberBlockRepository;
     private final SlackNotificationService slackNotificationService;
     private final GoogleService googleService;
+    private final BlockListCache blockListCache;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private static final List<String> FIRST_WORDS = Arrays.asList(
             "멍청한", "빠른", "귀여운", "화난", "배고픈", "행복한", "똑똑한", "졸린", "심술궂은", "시끄러운",
@@ -83,7 +98,7 @@ public class MemberService {
         Member member = registerOrLoginKakaoUser(kakaoUserInfo);
 
         // 엑세스,리프레시 토큰 생성
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member);
 
         Map<String, Object> response = new HashMap<>();
         response.put("tokens", tokens);
@@ -109,6 +124,7 @@ public class MemberService {
                         .deletedAt(null)
                         .build();
                 memberRepository.save(member);
+                eventPublisher.publishEvent(MemberChangedEvent.of(member.getEmail()));
             }
             return member;
         } else {
@@ -152,7 +168,7 @@ public class MemberService {
         // Apple 사용자 정보를 통한 회원가입 또는 로그인 처리
         Member member = registerOrLoginAppleUser(appleInfo);
         // JWT 토큰 발급
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member);
         Map<String, Object> response = new HashMap<>();
         response.put("tokens", tokens);
         response.put("role", member.getRole());
@@ -177,6 +193,7 @@ public class MemberService {
                         .email(appleUserInfo.getEmail())
                         .build();
                 memberRepository.save(member);
+                eventPublisher.publishEvent(MemberChangedEvent.of(optionalMember.get().getEmail(), member.getEmail()));
             }
             return member;
         } else {
@@ -217,7 +234,7 @@ public class MemberService {
         }
 
         Member member = registerOrLoginGoogleUser(googleInfo);
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member);
 
         Map<String, Object> resp = new HashMap<>();
         resp.put("tokens",       tokens);
@@ -240,6 +257,7 @@ public class MemberService {
                         .oauthRefreshToken(info.getRefreshToken())
                         .email(info.getEmail())
                         .build();
+                eventPublisher.publishEvent(MemberChangedEvent.of(exist.getEmail(), restored.getEmail()));
                 return memberRepository.save(restored);
             }
             return exist;
@@ -262,11 +280,16 @@ public class MemberService {
         }
     }
 
-    @Transactional(readOnly = true)
-    public Long getUserIdByEmail(String email) {
-        Member member = memberRepository.findByEmail(email)
+    // 인증된 사용자 id 조회
+    // - JWT 필터가 설정한 MemberPrincipal 의 id 를 그대로 사용 (DB, 캐시 조회 없음)
+    // - 그 외의 UserDetails 인 경우에만 이메일로 인증 정보 캐시에서 조회
+    public Long getUserId(UserDetails userDetails) {
+        if (userDetails instanceof MemberPrincipal principal) {
+            return principal.getId();
+        }
+        return memberPrincipalCache.get(userDetails.getUsername())
+                .map(MemberPrincipal::getId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-        return member.getId();
     }
 
     @Transactional
@@ -279,20 +302,32 @@ public class MemberService {
         memberRepository.save(updatedMember); // Member 객체 반환
     }
 
-    @Transactional
+    // 프로필 이미지 변경
+    // - 새 이미지 업로드는 트랜잭션 시작 전에, 기존 이미지 삭제는 커밋 이후에 수행
     public void updateProfileImage(Long userId, MultipartFile image) throws IOException {
         // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 기존 이미지가 S3에 있는 경우 삭제
-        s3Service.deleteFile(member.getImageUrl());
+        Member member = findMemberInTransaction(userId);
 
         // 새로운 이미지 업로드
         String imageUrl = s3Service.uploadProfileImage(member.getEmail(), image);
 
-        Member updatedMember = member.updateImageUrl(imageUrl);
-        memberRepository.save(updatedMember);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Member current = memberRepository.findById(userId)
+                        .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+                String oldImageUrl = current.getImageUrl();
+
+                Member updatedMember = current.updateImageUrl(imageUrl);
+                memberRepository.save(updatedMember);
+
+                // 기존 이미지가 S3에 있는 경우 커밋 이후 삭제
+                s3Service.deleteFilesAfterCommit(Collections.singletonList(oldImageUrl));
+            });
+        } catch (RuntimeException | Error e) {
+            // 저장 실패 시 업로드한 이미지 정리
+            s3Service.deleteFilesAsync(List.of(imageUrl));
+            throw e;
+        }
     }
 
     // 사용자 정보 조회
@@ -306,10 +341,9 @@ public class MemberService {
     }
 
     // 사용자 탈퇴
-    @Transactional
+    // - 소셜 계정 연결 해제(외부 API)는 트랜잭션 시작 전에 수행하여 DB 커넥션을 점유하지 않음
     public void withdrawMember(Long userId) {
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        Member member = findMemberInTransaction(userId);
 
         if (member.isDeleted()) {
             throw new BadRequestException(ErrorStatus.ALREADY_DELETE_USER_EXCEPTION.getMessage());
@@ -353,31 +387,39 @@ public class MemberService {
         }
 
         // 논리적 삭제 처리 및 개인정보 익명화
-        Member updatedMember = member.markAsDeleted();
-        memberRepository.save(updatedMember);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member current = memberRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+            if (current.isDeleted()) {
+                throw new BadRequestException(ErrorStatus.ALREADY_DELETE_USER_EXCEPTION.getMessage());
+            }
+
+            Member updatedMember = current.markAsDeleted();
+            memberRepository.save(updatedMember);
+            eventPublisher.publishEvent(MemberChangedEvent.of(current.getEmail()));
+        });
+
+        // 탈퇴 이전에 발급된 액세스 토큰 폐기
+        tokenRevocationService.revokeAll(userId);
     }
 
-    // 사용자 차단
+    // 외부 API 호출 전 회원 정보를 짧은 트랜잭션으로 조회
+    private Member findMemberInTransaction(Long userId) {
+        return transactionTemplate.execute(status -> memberRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage())));
+    }
+
+    // 사용자 차단 (삽입 한 번으로 처리, 동시 요청에도 차단 정보는 한 건만 유지)
     @Transactional
     public void blockUser(Long blockerId, Long blockedId) {
-        // 차단하는 사용자(Blocker) 조회
-        Member blocker = memberRepository.findById(blockerId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 차단 당하는 사용자(Blocked) 조회
-        Member blocked = memberRepository.findById(blockedId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        if (memberBlockRepository.existsByBlockerAndBlocked(blocker, blocked)) {
+        if (memberBlockRepository.insertIfAbsent(blockerId, blockedId) == 0) {
+            // 삽입되지 않은 경우 회원이 없는지, 이미 차단했는지 구분
+            if (!memberRepository.existsById(blockerId) || !memberRepository.existsById(blockedId)) {
+                throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+            }
             throw new BadRequestException(ErrorStatus.ALREADY_BLOCK_USER_EXCEPTION.getMessage());
         }
-
-        MemberBlock memberBlock = MemberBlock.builder()
-                .blocker(blocker)
-                .blocked(blocked)
-                .build();
-
-        memberBlockRepository.save(memberBlock);
+        eventPublisher.publishEvent(new MemberBlockChangedEvent(blockerId));
     }
 
     // 차단 사용자 목록 조회
@@ -397,41 +439,23 @@ public class MemberService {
                 .collect(Collectors.toList());
     }
 
-    // 사용자 차단 해제
+    // 사용자 차단 해제 (삭제 한 번으로 처리)
     @Transactional
     public void unblockUser(Long blockerId, Long blockedId) {
-        // 차단하는 사용자(Blocker) 조회
-        Member blocker = memberRepository.findById(blockerId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 차단 당하는 사용자(Blocked) 조회
-        Member blocked = memberRepository.findById(blockedId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 차단한 유저가 아니라면 예외처리
-        MemberBlock memberBlock = memberBlockRepository.findByBlockerAndBlocked(blocker, blocked)
-                .orElseThrow(() -> new BadRequestException(ErrorStatus.NOT_BLOCK_USER_EXCEPTION.getMessage()));
-
-        memberBlockRepository.delete(memberBlock);
-    }
-
-    // 내부에서 사용하기 위한 차단 사용자 목록 조회 메서드
-    private List<Member> getBlockedUsersInternal(Long blockerId) {
-        Member blocker = memberRepository.findById(blockerId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-        return memberBlockRepository.findByBlocker(blocker)
-                .stream()
-                .map(MemberBlock::getBlocked)
-                .collect(Collectors.toList());
+        if (memberBlockRepository.deleteByBlockerIdAndBlockedId(blockerId, blockedId) == 0) {
+            // 삭제되지 않은 경우 회원이 없는지, 차단한 유저가 아닌지 구분
+            if (!memberRepository.existsById(blockerId) || !memberRepository.existsById(blockedId)) {
+                throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+            }
+            throw new BadRequestException(ErrorStatus.NOT_BLOCK_USER_EXCEPTION.getMessage());
+        }
+        eventPublisher.publishEvent(new MemberBlockChangedEvent(blockerId));
     }
 
+    // 내부에서 사용하기 위한 차단 사용자 id 조회 메서드 (사용자별 캐시)
     @Transactional(readOnly = true)
-    public List<Long> getBlockedUserIds(Long blockerId) {
-        return getBlockedUsersInternal(blockerId)
-                .stream()
-                .map(Member::getId)
-                .collect(Collectors.toList());
+    public LongOpenHashSet getBlockedUserIds(Long blockerId) {
+        return blockListCache.getBlockedIds(blockerId);
     }
 
-
 }
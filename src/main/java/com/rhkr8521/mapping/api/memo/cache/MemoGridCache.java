@@ -0,0 +1,207 @@
+package com.rhkr8521.mapping.api.memo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhkr8521.mapping.api.memo.event.MemoChangedEvent;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 핀 조회용 프로세스 로컬 공간 그리드 캐시
+ * - geohash 셀(타일) 단위로 샤딩하여 메모 핀을 원시 타입 배열로 보관
+ * - 서버 시작 시 워밍, 메모 생성/수정/삭제 이벤트로 갱신
+ * - 다른 인스턴스의 변경은 타일 TTL 만료 후 DB 재적재로 반영
+ * - 타일은 핀 수 기준 최대 용량을 넘거나 TTL 이 지나면 제거 (넓은 지역을 이동하며 조회해도 메모리가 계속 늘지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoGridCache {
+
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+    private static final int LOAD_CHUNK_SIZE = 200;
+
+    private final MemoRepository memoRepository;
+
+    // 셀 -> 타일 (핀 수 기준 최대 용량과 TTL 로 제한, 메모가 없는 빈 타일도 1 로 계산)
+    private Map<String, MemoGridTile> tiles;
+    private final Set<String> dirtyDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean warmingUp = false;
+
+    // 셀별 마지막 변경 순번 (DB 적재 중에 변경된 셀의 타일을 적재 결과로 덮어쓰지 않도록 확인, 타일 TTL 동안 보관)
+    private final AtomicLong changeSequence = new AtomicLong();
+    private Cache<String, Long> cellChangedAt;
+
+    @Value("${memo.grid-cache.warm-up:true}")
+    private boolean warmUpEnabled;
+
+    @Value("${memo.grid-cache.tile-ttl-seconds:60}")
+    private long tileTtlSeconds;
+
+    @Value("${memo.grid-cache.max-pins:500000}")
+    private long maxPins;
+
+    @PostConstruct
+    public void init() {
+        Cache<String, MemoGridTile> tileCache = Caffeine.newBuilder()
+                .maximumWeight(maxPins)
+                .weigher((String cell, MemoGridTile tile) -> tile.size() + 1)
+                .expireAfterWrite(Duration.ofSeconds(tileTtlSeconds))
+                .build();
+        tiles = tileCache.asMap();
+        cellChangedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(tileTtlSeconds))
+                .build();
+    }
+
+    // 서버 시작 시 전체 메모 핀을 청크 단위로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+
+        warmingUp = true;
+        try {
+            Map<String, List<MemoPin>> pinsByCell = new HashMap<>();
+            long lastId = 0L;
+            int total = 0;
+            while (true) {
+                List<MemoPin> chunk = memoRepository.findPinsAfter(lastId, PageRequest.of(0, WARM_UP_CHUNK_SIZE));
+                for (MemoPin pin : chunk) {
+                    pinsByCell.computeIfAbsent(cellOf(pin.getLat(), pin.getLng()), k -> new ArrayList<>()).add(pin);
+                }
+                total += chunk.size();
+                if (chunk.size() < WARM_UP_CHUNK_SIZE) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            long now = System.currentTimeMillis();
+            pinsByCell.forEach((cell, pins) -> tiles.putIfAbsent(cell, MemoGridTile.of(pins, now)));
+            log.info("메모 그리드 캐시 워밍 완료: 메모 {}건, 타일 {}개", total, pinsByCell.size());
+        } catch (Exception e) {
+            // 워밍 실패 시 요청 시점에 타일 단위로 DB 에서 적재
+            log.error("메모 그리드 캐시 워밍 실패: {}", e.getMessage());
+        } finally {
+            warmingUp = false;
+            // 워밍 중 변경된 타일은 스냅샷이 오래되었을 수 있으므로 다음 조회 시 다시 적재
+            dirtyDuringWarmUp.forEach(tiles::remove);
+            dirtyDuringWarmUp.clear();
+        }
+    }
+
+    /**
+     * 반경 내 메모 핀 조회
+     * - 반경이 너무 넓어 커버링 셀이 많으면 Optional.empty() 를 반환하며, 호출자는 DB 조회로 대체
+     */
+    public Optional<List<MemoPin>> findWithinRadius(double lat, double lng, double km) {
+        BoundingBox box = GeoUtil.boundingBox(lat, lng, km);
+        List<String> cells = GeoUtil.coveringCells(box, GeoUtil.CELL_PRECISION, GeoUtil.MAX_RADIUS_TILES);
+        if (cells.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<MemoPin> result = new ArrayList<>();
+        for (MemoGridTile tile : getOrLoadTiles(cells)) {
+            tile.collectWithinRadius(lat, lng, km, box, result);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 바운딩 박스(화면 영역) 내 메모 핀 조회
+     * - 커버링 셀이 maxCells 를 넘으면 Optional.empty() 를 반환하며, 호출자는 DB 조회로 대체
+     */
+    public Optional<List<MemoPin>> findInBox(BoundingBox box, int maxCells) {
+        List<String> cells = GeoUtil.coveringCells(box, GeoUtil.CELL_PRECISION, maxCells);
+        if (cells.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<MemoPin> result = new ArrayList<>();
+        for (MemoGridTile tile : getOrLoadTiles(cells)) {
+            tile.collectInBox(box, result);
+        }
+        return Optional.of(result);
+    }
+
+    // 커밋 이후 메모 변경 사항을 캐시에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemoChanged(MemoChangedEvent event) {
+        String cell = cellOf(event.getLat(), event.getLng());
+        if (warmingUp) {
+            dirtyDuringWarmUp.add(cell);
+        }
+        // 타일 갱신 전에 변경 순번을 기록하여, 진행 중인 적재가 변경 이전 스냅샷을 저장하지 못하도록 함
+        cellChangedAt.put(cell, changeSequence.incrementAndGet());
+
+        // 적재되지 않은(콜드) 타일은 다음 조회 시 DB 에서 최신 상태로 적재되므로 무시
+        tiles.computeIfPresent(cell, (key, tile) -> event.isDeleted()
+                ? tile.remove(event.getMemoId())
+                : tile.upsert(event.getPin()));
+    }
+
+    private List<MemoGridTile> getOrLoadTiles(List<String> cells) {
+        long now = System.currentTimeMillis();
+        List<MemoGridTile> result = new ArrayList<>(cells.size());
+        List<String> missing = new ArrayList<>();
+        for (String cell : cells) {
+            MemoGridTile tile = tiles.get(cell);
+            // 이벤트로 갱신된 타일은 캐시의 쓰기 시각이 갱신되므로 적재 시각 기준으로도 만료 확인
+            if (tile != null && !tile.isExpired(now, tileTtlSeconds * 1000)) {
+                result.add(tile);
+            } else {
+                missing.add(cell);
+            }
+        }
+
+        // 콜드 타일 또는 만료된 타일은 누락된 셀만 묶어서 DB 에서 적재
+        for (int from = 0; from < missing.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = missing.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missing.size()));
+            long loadSequence = changeSequence.get();
+            Map<String, List<MemoPin>> pinsByCell = new HashMap<>();
+            for (MemoPin pin : memoRepository.findPinsInCells(chunk)) {
+                pinsByCell.computeIfAbsent(cellOf(pin.getLat(), pin.getLng()), k -> new ArrayList<>()).add(pin);
+            }
+            for (String cell : chunk) {
+                // 메모가 없는 셀도 빈 타일로 보관하여 TTL 동안 재조회하지 않음
+                MemoGridTile loaded = MemoGridTile.of(pinsByCell.getOrDefault(cell, List.of()), now);
+                // 적재 중에 변경된 셀은 저장하지 않고 기존 타일 유지 (이번 응답에는 적재 결과 사용, 다음 조회 시 다시 적재)
+                MemoGridTile installed = tiles.compute(cell, (key, current) -> changedSince(key, loadSequence) ? current : loaded);
+                result.add(installed != null && !installed.isExpired(now, tileTtlSeconds * 1000) ? installed : loaded);
+            }
+        }
+        return result;
+    }
+
+    private boolean changedSince(String cell, long sequence) {
+        Long changed = cellChangedAt.getIfPresent(cell);
+        return changed != null && changed > sequence;
+    }
+
+    private String cellOf(double lat, double lng) {
+        return GeoUtil.encode(lat, lng, GeoUtil.CELL_PRECISION);
+    }
+}
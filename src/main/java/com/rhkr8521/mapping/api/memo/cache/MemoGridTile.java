@@ -0,0 +1,142 @@
+package com.rhkr8521.mapping.api.memo.cache;
+
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+
+import java.util.List;
+
+// 하나의 geohash 셀에 속한 메모 핀을 원시 타입 배열로 보관하는 불변 타일 (변경 시 복사본 생성)
+class MemoGridTile {
+
+    private static final byte FLAG_CERTIFIED = 1;
+    private static final byte FLAG_SECRET = 1 << 1;
+
+    private final long[] ids;
+    private final double[] lats;
+    private final double[] lngs;
+    private final long[] ownerIds;
+    private final byte[] flags;
+    private final String[] titles;
+    private final String[] categories;
+    private final long loadedAt;
+
+    private MemoGridTile(int size, long loadedAt) {
+        this.ids = new long[size];
+        this.lats = new double[size];
+        this.lngs = new double[size];
+        this.ownerIds = new long[size];
+        this.flags = new byte[size];
+        this.titles = new String[size];
+        this.categories = new String[size];
+        this.loadedAt = loadedAt;
+    }
+
+    static MemoGridTile of(List<MemoPin> pins, long loadedAt) {
+        MemoGridTile tile = new MemoGridTile(pins.size(), loadedAt);
+        for (int i = 0; i < pins.size(); i++) {
+            tile.set(i, pins.get(i));
+        }
+        return tile;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isExpired(long now, long ttlMillis) {
+        return now - loadedAt > ttlMillis;
+    }
+
+    // 핀 추가 또는 교체
+    MemoGridTile upsert(MemoPin pin) {
+        int idx = indexOf(pin.getId());
+        if (idx >= 0) {
+            MemoGridTile copy = copy(ids.length, ids.length);
+            copy.set(idx, pin);
+            return copy;
+        }
+        MemoGridTile copy = copy(ids.length + 1, ids.length);
+        copy.set(ids.length, pin);
+        return copy;
+    }
+
+    // 핀 제거
+    MemoGridTile remove(long memoId) {
+        int idx = indexOf(memoId);
+        if (idx < 0) {
+            return this;
+        }
+        MemoGridTile copy = new MemoGridTile(ids.length - 1, loadedAt);
+        int to = 0;
+        for (int from = 0; from < ids.length; from++) {
+            if (from != idx) {
+                copy.copyFrom(this, from, to++);
+            }
+        }
+        return copy;
+    }
+
+    // 바운딩 박스와 반경 안에 있는 핀 수집
+    void collectWithinRadius(double lat, double lng, double km, BoundingBox box, List<MemoPin> out) {
+        for (int i = 0; i < ids.length; i++) {
+            if (box.contains(lats[i], lngs[i]) && GeoUtil.distanceKm(lat, lng, lats[i], lngs[i]) <= km) {
+                out.add(pinAt(i));
+            }
+        }
+    }
+
+    // 바운딩 박스 안에 있는 핀 수집
+    void collectInBox(BoundingBox box, List<MemoPin> out) {
+        for (int i = 0; i < ids.length; i++) {
+            if (box.contains(lats[i], lngs[i])) {
+                out.add(pinAt(i));
+            }
+        }
+    }
+
+    MemoPin pinAt(int i) {
+        return new MemoPin(ids[i], titles[i], categories[i], lats[i], lngs[i],
+                (flags[i] & FLAG_CERTIFIED) != 0, (flags[i] & FLAG_SECRET) != 0, ownerIds[i]);
+    }
+
+    private int indexOf(long memoId) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == memoId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private MemoGridTile copy(int size, int count) {
+        MemoGridTile copy = new MemoGridTile(size, loadedAt);
+        System.arraycopy(ids, 0, copy.ids, 0, count);
+        System.arraycopy(lats, 0, copy.lats, 0, count);
+        System.arraycopy(lngs, 0, copy.lngs, 0, count);
+        System.arraycopy(ownerIds, 0, copy.ownerIds, 0, count);
+        System.arraycopy(flags, 0, copy.flags, 0, count);
+        System.arraycopy(titles, 0, copy.titles, 0, count);
+        System.arraycopy(categories, 0, copy.categories, 0, count);
+        return copy;
+    }
+
+    private void copyFrom(MemoGridTile source, int from, int to) {
+        ids[to] = source.ids[from];
+        lats[to] = source.lats[from];
+        lngs[to] = source.lngs[from];
+        ownerIds[to] = source.ownerIds[from];
+        flags[to] = source.flags[from];
+        titles[to] = source.titles[from];
+        categories[to] = source.categories[from];
+    }
+
+    private void set(int i, MemoPin pin) {
+        ids[i] = pin.getId();
+        lats[i] = pin.getLat();
+        lngs[i] = pin.getLng();
+        ownerIds[i] = pin.getOwnerId();
+        flags[i] = (byte) ((pin.isCertified() ? FLAG_CERTIFIED : 0) | (pin.isSecret() ? FLAG_SECRET : 0));
+        titles[i] = pin.getTitle();
+        categories[i] = pin.getCategory();
+    }
+}
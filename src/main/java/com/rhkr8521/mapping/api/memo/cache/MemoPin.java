@@ -0,0 +1,40 @@
+package com.rhkr8521.mapping.api.memo.cache;
+
+import com.rhkr8521.mapping.api.memo.entity.Memo;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지도 핀 표시용 경량 메모 프로젝션
+@Getter
+@AllArgsConstructor
+public class MemoPin {
+    private final Long id;
+    private final String title;
+    private final String category;
+    private final double lat;
+    private final double lng;
+    private final boolean certified;
+    private final boolean secret;
+    private final Long ownerId;
+
+    // 공개 메모 중 차단하지 않은 사용자의 메모 + 본인의 비공개 메모만 노출
+    public boolean isVisibleTo(Long userId, LongOpenHashSet blockedIds) {
+        if (secret) {
+            return userId != null && userId.equals(ownerId);
+        }
+        return !blockedIds.contains(ownerId);
+    }
+
+    public static MemoPin from(Memo memo) {
+        return new MemoPin(
+                memo.getId(),
+                memo.getTitle(),
+                memo.getCategory(),
+                memo.getLat(),
+                memo.getLng(),
+                memo.isCertified(),
+                memo.isSecret(),
+                memo.getMember().getId());
+    }
+}
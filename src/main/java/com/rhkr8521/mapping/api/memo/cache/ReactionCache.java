@@ -0,0 +1,143 @@
+package com.rhkr8521.mapping.api.memo.cache;
+
+import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
+import com.rhkr8521.mapping.api.memo.event.ReactionChangedEvent;
+import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
+import com.rhkr8521.mapping.api.memo.repository.ReactionRow;
+import com.rhkr8521.mapping.common.cache.InvalidatingCache;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 좋아요/싫어요 캐시
+ * - 회원이 누른 메모 좋아요, 메모 싫어요, 댓글 좋아요 id 를 한 번의 쿼리로 적재하여 LongOpenHashSet 으로 보관
+ * - 목록/상세 조회의 myLike, myHate 는 캐시에서 바로 확인 (페이지당 추가 쿼리 없음)
+ * - 반응이 너무 많은 회원은 캐시하지 않고 요청한 id 에 대해서만 일괄 조회
+ * - 좋아요/싫어요 변경 커밋 이후 무효화
+ */
+@Component
+public class ReactionCache {
+
+    private final MemoLikeRepository memoLikeRepository;
+    private final MemoHateRepository memoHateRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final InvalidatingCache<Long, Entry> cache;
+
+    // 회원 한 명당 캐시할 최대 반응 수
+    private final int maxReactionsPerMember;
+
+    public ReactionCache(MemoLikeRepository memoLikeRepository,
+                         MemoHateRepository memoHateRepository,
+                         CommentLikeRepository commentLikeRepository,
+                         @Value("${memo.reaction-cache.ttl-seconds:60}") long ttlSeconds,
+                         @Value("${memo.reaction-cache.max-size:10000}") long maxSize,
+                         @Value("${memo.reaction-cache.max-reactions-per-member:5000}") int maxReactionsPerMember,
+                         @Value("${spring.datasource.read-your-writes.window-millis:5000}") long invalidationWindowMillis) {
+        this.memoLikeRepository = memoLikeRepository;
+        this.memoHateRepository = memoHateRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.maxReactionsPerMember = maxReactionsPerMember;
+        this.cache = new InvalidatingCache<>(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(invalidationWindowMillis));
+    }
+
+    // 주어진 메모 중 좋아요를 누른 메모 id 셋
+    public LongOpenHashSet getLikedMemoIds(Long memberId, Collection<Long> memoIds) {
+        Entry entry = getEntry(memberId);
+        if (entry != null) {
+            return entry.likedMemoIds;
+        }
+        if (memoIds.size() == 1) {
+            Long memoId = memoIds.iterator().next();
+            return memoLikeRepository.existsByMemoIdAndMemberId(memoId, memberId) ? LongOpenHashSet.of(List.of(memoId)) : LongOpenHashSet.EMPTY;
+        }
+        return memoIds.isEmpty() ? LongOpenHashSet.EMPTY : LongOpenHashSet.of(memoLikeRepository.findLikedMemoIds(memberId, memoIds));
+    }
+
+    // 주어진 메모 중 싫어요를 누른 메모 id 셋
+    public LongOpenHashSet getHatedMemoIds(Long memberId, Collection<Long> memoIds) {
+        Entry entry = getEntry(memberId);
+        if (entry != null) {
+            return entry.hatedMemoIds;
+        }
+        if (memoIds.size() == 1) {
+            Long memoId = memoIds.iterator().next();
+            return memoHateRepository.existsByMemoIdAndMemberId(memoId, memberId) ? LongOpenHashSet.of(List.of(memoId)) : LongOpenHashSet.EMPTY;
+        }
+        return memoIds.isEmpty() ? LongOpenHashSet.EMPTY : LongOpenHashSet.of(memoHateRepository.findHatedMemoIds(memberId, memoIds));
+    }
+
+    // 주어진 댓글 중 좋아요를 누른 댓글 id 셋
+    public LongOpenHashSet getLikedCommentIds(Long memberId, Collection<Long> commentIds) {
+        Entry entry = getEntry(memberId);
+        if (entry != null) {
+            return entry.likedCommentIds;
+        }
+        if (commentIds.size() == 1) {
+            Long commentId = commentIds.iterator().next();
+            return commentLikeRepository.existsByCommentIdAndMemberId(commentId, memberId) ? LongOpenHashSet.of(List.of(commentId)) : LongOpenHashSet.EMPTY;
+        }
+        return commentIds.isEmpty() ? LongOpenHashSet.EMPTY : LongOpenHashSet.of(commentLikeRepository.findLikedCommentIds(memberId, commentIds));
+    }
+
+    public void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    // 좋아요/싫어요 변경 커밋 이후 캐시 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReactionChanged(ReactionChangedEvent event) {
+        invalidate(event.getMemberId());
+    }
+
+    // 캐시 항목 조회 (캐시에 없거나 만료되었으면 DB 에서 적재, 반응이 너무 많은 회원은 null)
+    private Entry getEntry(Long memberId) {
+        Entry entry = cache.get(memberId, this::load);
+        return entry.cacheable ? entry : null;
+    }
+
+    private Entry load(Long memberId) {
+        List<ReactionRow> rows = memoLikeRepository.findReactionsByMemberId(memberId, maxReactionsPerMember + 1);
+        if (rows.size() > maxReactionsPerMember) {
+            // 반응이 너무 많으면 캐시하지 않음 (TTL 동안 다시 적재하지 않도록 표시만 저장)
+            return new Entry(LongOpenHashSet.EMPTY, LongOpenHashSet.EMPTY, LongOpenHashSet.EMPTY, false);
+        }
+
+        List<Long> likedMemoIds = new ArrayList<>();
+        List<Long> hatedMemoIds = new ArrayList<>();
+        List<Long> likedCommentIds = new ArrayList<>();
+        for (ReactionRow row : rows) {
+            switch (row.getType()) {
+                case "MEMO_LIKE" -> likedMemoIds.add(row.getTargetId());
+                case "MEMO_HATE" -> hatedMemoIds.add(row.getTargetId());
+                case "COMMENT_LIKE" -> likedCommentIds.add(row.getTargetId());
+                default -> {
+                }
+            }
+        }
+        return new Entry(LongOpenHashSet.of(likedMemoIds), LongOpenHashSet.of(hatedMemoIds),
+                LongOpenHashSet.of(likedCommentIds), true);
+    }
+
+    private static final class Entry {
+        private final LongOpenHashSet likedMemoIds;
+        private final LongOpenHashSet hatedMemoIds;
+        private final LongOpenHashSet likedCommentIds;
+        private final boolean cacheable;
+
+        private Entry(LongOpenHashSet likedMemoIds, LongOpenHashSet hatedMemoIds, LongOpenHashSet likedCommentIds,
+                      boolean cacheable) {
+            this.likedMemoIds = likedMemoIds;
+            this.hatedMemoIds = hatedMemoIds;
+            this.likedCommentIds = likedCommentIds;
+            this.cacheable = cacheable;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.rhkr8521.mapping.api.memo.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요/싫어요 수 쓰기 지연(write-behind) 버퍼
+ * - 토글마다 메모/댓글 행을 바로 UPDATE 하지 않고 id 별 LongAdder 에 증감값을 누적
+ * - 짧은 주기와 종료 시점에 누적값을 UPDATE ... CASE 문으로 묶어서 반영 (인기 메모의 행 잠금 경합 제거)
+ * - 조회 시 아직 반영되지 않은 증감값을 더해 응답의 카운트를 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionCounterBuffer {
+
+    // UPDATE 문 하나에 포함할 최대 id 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 누적 중인 증감값 (flush 시 새 버퍼로 교체)
+    private volatile Deltas pending = new Deltas();
+    // DB 에 반영 중인 증감값 (반영이 끝날 때까지 조회에 포함)
+    private volatile Deltas flushing = new Deltas();
+
+    // 증감값 누적/조회와 버퍼 교체(pending -> flushing, 실패 시 되돌림)가 겹치지 않도록 보호
+    // - 누적과 조회는 공유 잠금이라 서로 막지 않고, 조회는 두 버퍼를 같은 시점 기준으로 합산
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    public void addMemoLike(Long memoId, long delta) {
+        addAfterCommit(Counter.MEMO_LIKE, memoId, delta);
+    }
+
+    public void addMemoHate(Long memoId, long delta) {
+        addAfterCommit(Counter.MEMO_HATE, memoId, delta);
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        addAfterCommit(Counter.COMMENT_LIKE, commentId, delta);
+    }
+
+    // DB 값에 아직 반영되지 않은 증감값을 더한 카운트
+    public long getMemoLikeCount(Long memoId, long storedCount) {
+        return merge(Counter.MEMO_LIKE, memoId, storedCount);
+    }
+
+    public long getMemoHateCount(Long memoId, long storedCount) {
+        return merge(Counter.MEMO_HATE, memoId, storedCount);
+    }
+
+    public int getCommentLikeCount(Long commentId, int storedCount) {
+        return (int) merge(Counter.COMMENT_LIKE, commentId, storedCount);
+    }
+
+    // 누적된 증감값을 DB 에 반영 (실패하면 다음 주기에 다시 반영하도록 버퍼에 되돌림)
+    @Scheduled(fixedDelayString = "${memo.counter.flush-interval-millis:1000}")
+    public synchronized void flush() {
+        Deltas drained;
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            flushing = drained;
+            pending = new Deltas();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        boolean flushed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                update("memo", "memo_id", "like_cnt", drained.get(Counter.MEMO_LIKE));
+                update("memo", "memo_id", "hate_cnt", drained.get(Counter.MEMO_HATE));
+                update("comment", "comment_id", "like_cnt", drained.get(Counter.COMMENT_LIKE));
+            });
+            flushed = true;
+        } catch (Exception e) {
+            log.error("좋아요/싫어요 수 반영 실패, 다음 주기에 재시도 ({})", e.getMessage());
+        } finally {
+            // 되돌림과 flushing 비우기를 한 번에 수행하여 조회 시 같은 증감값이 두 번 더해지거나 빠지지 않도록 함
+            swapLock.writeLock().lock();
+            try {
+                if (!flushed) {
+                    for (Counter counter : Counter.values()) {
+                        drained.get(counter).forEach((id, adder) -> accumulate(counter, id, adder.sum()));
+                    }
+                }
+                flushing = new Deltas();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 종료 시 남은 증감값 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 트랜잭션 안에서는 커밋된 경우에만 누적 (롤백된 토글이 카운트에 반영되지 않도록)
+    private void addAfterCommit(Counter counter, Long id, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(counter, id, delta);
+                }
+            });
+        } else {
+            add(counter, id, delta);
+        }
+    }
+
+    private void add(Counter counter, Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            accumulate(counter, id, delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // swapLock 을 잡은 상태에서 호출
+    private void accumulate(Counter counter, Long id, long delta) {
+        if (delta != 0) {
+            pending.get(counter).computeIfAbsent(id, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private long merge(Counter counter, Long id, long storedCount) {
+        long unflushed;
+        swapLock.readLock().lock();
+        try {
+            unflushed = pending.sum(counter, id) + flushing.sum(counter, id);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return Math.max(0, storedCount + unflushed);
+    }
+
+    // UPDATE {table} SET {column} = GREATEST({column} + CASE {id} WHEN ? THEN ? ... END, 0) WHERE {id} IN (...)
+    private void update(String table, String idColumn, String countColumn, Map<Long, LongAdder> deltas) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> values = new ArrayList<>();
+        deltas.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                ids.add(id);
+                values.add(delta);
+            }
+        });
+
+        for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+            int to = Math.min(from + FLUSH_BATCH_SIZE, ids.size());
+
+            StringBuilder sql = new StringBuilder("UPDATE ").append(table)
+                    .append(" SET ").append(countColumn).append(" = GREATEST(").append(countColumn)
+                    .append(" + CASE ").append(idColumn);
+            List<Object> args = new ArrayList<>((to - from) * 3);
+            for (int i = from; i < to; i++) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(ids.get(i));
+                args.add(values.get(i));
+            }
+            sql.append(" ELSE 0 END, 0) WHERE ").append(idColumn).append(" IN (");
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "?" : ", ?");
+                args.add(ids.get(i));
+            }
+            sql.append(")");
+
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    private enum Counter {
+        MEMO_LIKE, MEMO_HATE, COMMENT_LIKE
+    }
+
+    // 카운터 종류별 id -> 증감값
+    private static final class Deltas {
+        private final Map<Counter, Map<Long, LongAdder>> deltas = Map.of(
+                Counter.MEMO_LIKE, new ConcurrentHashMap<>(),
+                Counter.MEMO_HATE, new ConcurrentHashMap<>(),
+                Counter.COMMENT_LIKE, new ConcurrentHashMap<>());
+
+        Map<Long, LongAdder> get(Counter counter) {
+            return deltas.get(counter);
+        }
+
+        long sum(Counter counter, Long id) {
+            LongAdder adder = deltas.get(counter).get(id);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        boolean isEmpty() {
+            return deltas.values().stream().allMatch(Map::isEmpty);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.rhkr8521.mapping.api.memo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rhkr8521.mapping.api.member.service.MemberService;
 import com.rhkr8521.mapping.api.memo.dto.*;
+import com.rhkr8521.mapping.api.memo.service.MemoClusterService;
 import com.rhkr8521.mapping.api.memo.service.MemoService;
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.response.ApiResponse;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
@@ -19,8 +22,10 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 @Tag(name = "Memo", description = "Memo 관련 API 입니다.")
@@ -30,7 +35,12 @@ import java.util.List;
 public class MemoController {
 
     private final MemoService memoService;
+    private final MemoClusterService memoClusterService;
     private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+
+    // 스트리밍 조회 시 버퍼를 비우는 간격 (메모 건수)
+    private static final int STREAM_FLUSH_INTERVAL = 100;
 
     @Operation(
             summary = "메모 등록 API",
@@ -81,7 +91,7 @@ public class MemoController {
                 .secret(secret)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         memoService.createMemo(userId, memoCreateRequestDTO, images, request);
         return ApiResponse.success_only(SuccessStatus.CREATE_MEMO_SUCCESS);
@@ -111,6 +121,105 @@ public class MemoController {
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
     }
 
+    @Operation(
+            summary = "공개/비공개 메모 페이지 조회 API",
+            description = "현재 위치 위도와 경도를 기준으로 km 반경 내의 공개/비공개 메모를 가까운 순으로 페이지 단위 조회합니다. | 다음 페이지는 응답의 nextCursor 를 cursor 로 전달 | 토큰이 없다면 공개 메모만 조회"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
+    })
+    @GetMapping("/total/page")
+    public ResponseEntity<ApiResponse<MemoTotalPageResponseDTO>> getMemosWithinRadiusPage(
+            @RequestParam("lat") Double lat,
+            @RequestParam("lng") Double lng,
+            @RequestParam("km") Double km,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // 필수 입력 값 누락 체크
+        if (lat == null || lng == null || km == null) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
+        }
+
+        MemoTotalPageResponseDTO page = memoService.getMemosWithinRadiusPage(lat, lng, km, cursor, size, userDetails);
+        return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, page);
+    }
+
+    @Operation(
+            summary = "공개/비공개 메모 스트리밍 조회 API",
+            description = "현재 위치 위도와 경도를 기준으로 km 반경 내의 공개/비공개 메모를 가까운 순으로 NDJSON(한 줄에 메모 하나) 형식으로 스트리밍합니다. | 토큰이 없다면 공개 메모만 조회"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
+    })
+    @GetMapping(value = "/total/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMemosWithinRadius(
+            @RequestParam("lat") Double lat,
+            @RequestParam("lng") Double lng,
+            @RequestParam("km") Double km,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // 필수 입력 값 누락 체크
+        if (lat == null || lng == null || km == null) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
+        }
+
+        // 가까운 순으로 한 번 순회하며 바로 내보냄 (결과 수 제한은 서비스에서 적용)
+        StreamingResponseBody body = outputStream -> {
+            Iterator<MemoTotalListResponseDTO> memos = memoService.iterateMemosWithinRadius(lat, lng, km, userDetails);
+            int written = 0;
+            while (memos.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(memos.next()));
+                outputStream.write('\n');
+                if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "메모 클러스터 조회 API",
+            description = "화면 영역(바운딩 박스)과 줌 레벨을 기준으로 메모 클러스터(개수, 중심 좌표, 대표 카테고리)를 조회합니다. | 설정된 줌 레벨 이상이면 개별 메모를 반환합니다(화면 영역이 너무 넓으면 400). | 토큰이 없다면 공개 메모만 조회"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 클러스터 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 정보가 입력되지 않았습니다."),
+    })
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<MemoClusterResponseDTO>> getMemoClusters(
+            @RequestParam("minLat") Double minLat,
+            @RequestParam("maxLat") Double maxLat,
+            @RequestParam("minLng") Double minLng,
+            @RequestParam("maxLng") Double maxLng,
+            @RequestParam("zoom") Integer zoom,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // 필수 입력 값 누락 체크
+        if (minLat == null || maxLat == null || minLng == null || maxLng == null || zoom == null) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
+        }
+
+        // 지도 영역 및 줌 레벨 검증
+        if (minLat > maxLat || minLng > maxLng
+                || minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180
+                || zoom < 0 || zoom > 22) {
+            throw new BadRequestException(ErrorStatus.INVALID_MAP_BOUNDS_EXCEPTION.getMessage());
+        }
+
+        MemoClusterResponseDTO clusters = memoClusterService.getClusters(
+                new BoundingBox(minLat, maxLat, minLng, maxLng), zoom, userDetails);
+        return ApiResponse.success(SuccessStatus.SEND_MEMO_CLUSTER_SUCCESS, clusters);
+    }
+
     @Operation(
             summary = "공개/비공개 메모 상세 조회 API",
             description = "특정 공개/비공개 메모의 상세 정보를 조회합니다. / 비 로그인 상태이면 토큰을 안넘기고, 로그인상태이면 엑세스토큰을 넘겨줘야합니다."
@@ -145,7 +254,7 @@ public class MemoController {
     public ResponseEntity<ApiResponse<List<MyMemoListResponseDTO>>> getMyMemo(
             @AuthenticationPrincipal UserDetails userDetails) {
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         List<MyMemoListResponseDTO> myMemoList = memoService.getMyMemoList(userId);
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, myMemoList);
@@ -172,7 +281,7 @@ public class MemoController {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         memoService.deleteMemo(memoId, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMO_SUCCESS);
@@ -224,7 +333,7 @@ public class MemoController {
                 .secret(secret)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         memoService.updateMemo(memoId, userId, memoUpdateRequestDTO, images, deleteImageUrls, request);
 
@@ -275,13 +384,62 @@ public class MemoController {
                 .category(category)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
 
         memoService.exUpdateMemo(memoId, userId, memoUpdateRequestDTO, images, deleteImageUrls, request);
 
         return ApiResponse.success_only(SuccessStatus.UPDATE_MEMO_SUCCESS);
     }
 
+    @Operation(
+            summary = "메모 이미지 업로드 URL 발급 API",
+            description = "이미지를 저장소에 직접 업로드할 수 있는 URL 을 발급합니다. | 발급된 uploadUrl 로 headers 를 포함하여 PUT 요청 후 이미지 등록 API 를 호출해야 합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 이미지 업로드 URL 발급 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미지 파일(jpeg, png, webp, gif) 만 직접 업로드할 수 있습니다."),
+    })
+    @PostMapping("/images/upload-url")
+    public ResponseEntity<ApiResponse<List<MemoImageUploadResponseDTO>>> createImageUploadUrls(
+            @RequestBody MemoImageUploadRequestDTO uploadRequest,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        if (uploadRequest.getImages() == null || uploadRequest.getImages().isEmpty()) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
+
+        Long userId = memberService.getUserId(userDetails);
+
+        // 이미지 형식, 개수는 서비스에서 검증
+        List<MemoImageUploadResponseDTO> uploadUrls = memoService.createImageUploadUrls(userId, uploadRequest.getImages());
+        return ApiResponse.success(SuccessStatus.CREATE_MEMO_IMAGE_UPLOAD_URL_SUCCESS, uploadUrls);
+    }
+
+    @Operation(
+            summary = "메모 이미지 등록 API",
+            description = "업로드 URL 로 저장소에 직접 업로드한 이미지를 메모에 등록합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 이미지 등록 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "업로드한 이미지 경로가 올바르지 않습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "업로드된 이미지를 찾을 수 없습니다."),
+    })
+    @PostMapping("/images/{memoId}")
+    public ResponseEntity<ApiResponse<Void>> attachUploadedImages(
+            @PathVariable Long memoId,
+            @RequestBody MemoImageAttachRequestDTO attachRequest,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        if (attachRequest.getKeys() == null || attachRequest.getKeys().isEmpty()) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
+
+        Long userId = memberService.getUserId(userDetails);
+
+        memoService.attachUploadedImages(memoId, userId, attachRequest.getKeys());
+        return ApiResponse.success_only(SuccessStatus.ATTACH_MEMO_IMAGE_SUCCESS);
+    }
+
     @Operation(
             summary = "메모 좋아요 토글 API",
             description = "특정 메모에 좋아요를 누르거나 취소합니다."
@@ -295,7 +453,7 @@ public class MemoController {
             @PathVariable Long memoId,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         memoService.toggleLike(memoId, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
     }
@@ -313,7 +471,7 @@ public class MemoController {
             @PathVariable Long memoId,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = memberService.getUserId(userDetails);
         memoService.toggleHate(memoId, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_HATE_SUCCESS);
     }
@@ -349,8 +507,11 @@ public class MemoController {
     }
 
     private boolean isImageFile(MultipartFile file) {
+        return isNotImageContentType(file.getContentType());
+    }
+
+    private boolean isNotImageContentType(String contentType) {
         // 허용되는 이미지 MIME 타입
-        String contentType = file.getContentType();
         return contentType == null || (!contentType.equals("image/jpeg") &&
                 !contentType.equals("image/png") &&
                 !contentType.equals("image/jpg") &&
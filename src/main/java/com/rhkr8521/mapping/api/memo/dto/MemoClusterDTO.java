@@ -0,0 +1,18 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoClusterDTO {
+    private String cell;
+    private long count;
+    private double lat;
+    private double lng;
+    private String category;
+}
@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoClusterResponseDTO {
+    private int zoom;
+    private boolean clustered;
+    private List<MemoClusterDTO> clusters;
+    private List<MemoTotalListResponseDTO> pins;
+}
@@ -0,0 +1,14 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoImageAttachRequestDTO {
+    private List<String> keys;
+}
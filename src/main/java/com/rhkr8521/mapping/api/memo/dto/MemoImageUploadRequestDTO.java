@@ -0,0 +1,22 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoImageUploadRequestDTO {
+    private List<ImageFile> images;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImageFile {
+        private String fileName;
+        private String contentType;
+    }
+}
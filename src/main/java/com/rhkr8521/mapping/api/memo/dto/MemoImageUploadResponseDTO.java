@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoImageUploadResponseDTO {
+    private String key;
+    private String uploadUrl;
+    private Map<String, String> headers;
+    private String expiresAt;
+}
@@ -17,4 +17,6 @@ public class MemoListResponseDTO {
     private long likeCnt;     // 좋아요 개수
     private long hateCnt;     // 싫어요 개수
     private List<String> images; // 이미지 목록
+    private boolean myLike;   // 내 좋아요 여부
+    private boolean myHate;   // 내 싫어요 여부
 }
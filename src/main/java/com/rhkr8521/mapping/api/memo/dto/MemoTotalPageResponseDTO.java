@@ -0,0 +1,18 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoTotalPageResponseDTO {
+    private List<MemoTotalListResponseDTO> memos;
+    private String nextCursor;
+    private boolean hasNext;
+}
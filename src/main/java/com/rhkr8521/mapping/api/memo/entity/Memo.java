@@ -1,6 +1,7 @@
 package com.rhkr8521.mapping.api.memo.entity;
 
 import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
 import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,7 +14,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "memo")
+@Table(name = "memo", indexes = {
+        @Index(name = "idx_memo_geohash", columnList = "geohash"),
+        @Index(name = "idx_memo_lat_lng", columnList = "lat, lng"),
+        @Index(name = "idx_memo_user_deleted_created_at", columnList = "user_id, is_deleted, created_at")
+})
 @Builder(toBuilder = true)
 public class Memo extends BaseTimeEntity {
 
@@ -29,9 +34,19 @@ public class Memo extends BaseTimeEntity {
 
     private double lat;
     private double lng;
+
+    // 위치 셀 키 (geohash, 반경 조회 인덱스용)
+    @Column(length = 12)
+    private String geohash;
+
     private String category;
+
+    // 좋아요/싫어요 수는 ReactionCounterBuffer 의 일괄 UPDATE 로만 변경 (엔티티 저장 시 이전 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
     private long likeCnt;
+    @Column(updatable = false)
     private long hateCnt;
+
     private String createIp;
     private String lastModifyIp;
     private boolean secret;
@@ -57,14 +72,20 @@ public class Memo extends BaseTimeEntity {
     private List<MemoHate> memoHates = new ArrayList<>();
 
     // 메모 이미지 추가
-    public void addImages(List<String> imageUrls) {
-        for (String url : imageUrls) {
-            MemoImage image = MemoImage.builder()
-                    .imageUrl(url)
-                    .memo(this)
-                    .build();
-            this.images.add(image);
-        }
+    public void addImage(String imageUrl, String thumbnailUrl) {
+        MemoImage image = MemoImage.builder()
+                .imageUrl(imageUrl)
+                .thumbnailUrl(thumbnailUrl)
+                .memo(this)
+                .build();
+        this.images.add(image);
+    }
+
+    // 생성/수정 시 위치 셀 키 갱신
+    @PrePersist
+    @PreUpdate
+    private void updateGeohash() {
+        this.geohash = GeoUtil.encode(this.lat, this.lng, GeoUtil.CELL_PRECISION);
     }
 
 }
@@ -8,7 +8,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "memo_hate")
+@Table(name = "memo_hate", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_memo_hate_memo_user", columnNames = {"memo_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_memo_hate_user", columnList = "user_id")
+})
 @Builder
 public class MemoHate {
 
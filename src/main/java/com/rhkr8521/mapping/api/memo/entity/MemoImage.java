@@ -3,10 +3,14 @@ package com.rhkr8521.mapping.api.memo.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "memo_image")
+@Table(name = "memo_image", indexes = {
+        @Index(name = "idx_memo_image_memo", columnList = "memo_id")
+})
 public class MemoImage {
 
     @Id
@@ -16,13 +20,29 @@ public class MemoImage {
 
     private String imageUrl;
 
+    // 목록용 썸네일 (썸네일 도입 이전 이미지는 null)
+    private String thumbnailUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "memo_id")
     private Memo memo;
 
     @Builder
-    public MemoImage(String imageUrl, Memo memo) {
+    public MemoImage(String imageUrl, String thumbnailUrl, Memo memo) {
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
         this.memo = memo;
     }
+
+    // 목록 화면에 사용할 이미지 (썸네일이 없으면 원본)
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    // 저장소에 있는 모든 파일 URL (삭제 시 사용)
+    public List<String> getFileUrls() {
+        return thumbnailUrl == null || thumbnailUrl.equals(imageUrl)
+                ? List.of(imageUrl)
+                : List.of(imageUrl, thumbnailUrl);
+    }
 }
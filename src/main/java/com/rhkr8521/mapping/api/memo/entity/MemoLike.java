@@ -8,7 +8,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "memo_like")
+@Table(name = "memo_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_memo_like_memo_user", columnNames = {"memo_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_memo_like_user", columnList = "user_id")
+})
 @Builder
 public class MemoLike {
 
@@ -0,0 +1,37 @@
+package com.rhkr8521.mapping.api.memo.event;
+
+import com.rhkr8521.mapping.api.memo.cache.MemoPin;
+import com.rhkr8521.mapping.api.memo.entity.Memo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 메모 생성/수정/삭제 이벤트 (커밋 이후 그리드 캐시 갱신용)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemoChangedEvent {
+
+    private final Long memoId;
+    private final double lat;
+    private final double lng;
+    private final MemoPin pin; // 삭제된 경우 null
+
+    public static MemoChangedEvent saved(Memo memo) {
+        if (memo.isDeleted()) {
+            return deleted(memo);
+        }
+        return new MemoChangedEvent(memo.getId(), memo.getLat(), memo.getLng(), MemoPin.from(memo));
+    }
+
+    public static MemoChangedEvent deleted(Memo memo) {
+        return deleted(memo.getId(), memo.getLat(), memo.getLng());
+    }
+
+    public static MemoChangedEvent deleted(Long memoId, double lat, double lng) {
+        return new MemoChangedEvent(memoId, lat, lng, null);
+    }
+
+    public boolean isDeleted() {
+        return pin == null;
+    }
+}
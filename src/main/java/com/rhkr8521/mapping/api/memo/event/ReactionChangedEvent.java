@@ -0,0 +1,12 @@
+package com.rhkr8521.mapping.api.memo.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 메모/댓글 좋아요, 싫어요 변경 이벤트 (커밋 이후 반응 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class ReactionChangedEvent {
+
+    private final Long memberId;
+}
@@ -0,0 +1,10 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+// 셀 + 카테고리 단위 메모 집계 결과 (클러스터 DB 집계용)
+public interface MemoClusterRow {
+    String getCell();
+    String getCategory();
+    Long getCnt();
+    Double getSumLat();
+    Double getSumLng();
+}
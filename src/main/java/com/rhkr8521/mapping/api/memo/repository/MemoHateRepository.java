@@ -2,12 +2,43 @@ package com.rhkr8521.mapping.api.memo.repository;
 
 import com.rhkr8521.mapping.api.memo.entity.MemoHate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface MemoHateRepository extends JpaRepository<MemoHate, Long> {
-    Optional<MemoHate> findByMemoIdAndMemberId(Long memoId, Long memberId);
-    void deleteAllByMemoId(Long memoId);
+    boolean existsByMemoIdAndMemberId(Long memoId, Long memberId);
+
+    // 싫어요 추가 (이미 눌렀거나 메모/회원이 없으면 0 반환, (memo_id, user_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달
+    @Modifying
+    @Query(value = "INSERT INTO memo_hate (memo_id, user_id) " +
+            "SELECT m.memo_id, u.user_id FROM memo m JOIN member u ON u.user_id = :memberId WHERE m.memo_id = :memoId " +
+            "ON DUPLICATE KEY UPDATE memo_hate_id = memo_hate_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memoId") Long memoId, @Param("memberId") Long memberId);
+
+    // 싫어요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM MemoHate mh WHERE mh.memo.id = :memoId AND mh.member.id = :memberId")
+    int deleteByMemoIdAndMemberId(@Param("memoId") Long memoId, @Param("memberId") Long memberId);
+
+    // 주어진 메모 중 회원이 싫어요를 누른 메모 id 조회
+    @Query("SELECT mh.memo.id FROM MemoHate mh WHERE mh.member.id = :memberId AND mh.memo.id IN :memoIds")
+    List<Long> findHatedMemoIds(@Param("memberId") Long memberId, @Param("memoIds") Collection<Long> memoIds);
+
+    // 메모 싫어요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoHate mh WHERE mh.memo.id IN :memoIds")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+
+    // 회원이 누른 싫어요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoHate mh WHERE mh.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,21 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.MemoImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemoImageRepository extends JpaRepository<MemoImage, Long> {
+    List<MemoImage> findByMemoIdIn(Collection<Long> memoIds);
+
+    // 메모 이미지 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoImage mi WHERE mi.memo.id IN :memoIds")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+}
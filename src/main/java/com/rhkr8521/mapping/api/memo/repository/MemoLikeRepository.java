@@ -3,17 +3,57 @@ package com.rhkr8521.mapping.api.memo.repository;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
 import com.rhkr8521.mapping.api.memo.entity.MemoLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface MemoLikeRepository extends JpaRepository<MemoLike, Long> {
-    Optional<MemoLike> findByMemoIdAndMemberId(Long memoId, Long memberId);
-    void deleteAllByMemoId(Long memoId);
+    boolean existsByMemoIdAndMemberId(Long memoId, Long memberId);
+
+    // 좋아요 추가 (이미 눌렀거나 메모/회원이 없으면 0 반환, (memo_id, user_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달 (INSERT IGNORE 는 모든 오류를 경고로 바꾸므로 사용하지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO memo_like (memo_id, user_id) " +
+            "SELECT m.memo_id, u.user_id FROM memo m JOIN member u ON u.user_id = :memberId WHERE m.memo_id = :memoId " +
+            "ON DUPLICATE KEY UPDATE memo_like_id = memo_like_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memoId") Long memoId, @Param("memberId") Long memberId);
+
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM MemoLike ml WHERE ml.memo.id = :memoId AND ml.member.id = :memberId")
+    int deleteByMemoIdAndMemberId(@Param("memoId") Long memoId, @Param("memberId") Long memberId);
+
+    // 주어진 메모 중 회원이 좋아요를 누른 메모 id 조회
+    @Query("SELECT ml.memo.id FROM MemoLike ml WHERE ml.member.id = :memberId AND ml.memo.id IN :memoIds")
+    List<Long> findLikedMemoIds(@Param("memberId") Long memberId, @Param("memoIds") Collection<Long> memoIds);
+
+    // 회원이 누른 메모 좋아요/싫어요, 댓글 좋아요를 한 번에 조회 (최대 limit 건)
+    @Query(value = "SELECT r.target_id AS targetId, r.type AS type FROM (" +
+            "SELECT ml.memo_id AS target_id, 'MEMO_LIKE' AS type FROM memo_like ml WHERE ml.user_id = :memberId " +
+            "UNION ALL " +
+            "SELECT mh.memo_id AS target_id, 'MEMO_HATE' AS type FROM memo_hate mh WHERE mh.user_id = :memberId " +
+            "UNION ALL " +
+            "SELECT cl.comment_id AS target_id, 'COMMENT_LIKE' AS type FROM comment_like cl WHERE cl.user_id = :memberId" +
+            ") r LIMIT :limit",
+            nativeQuery = true)
+    List<ReactionRow> findReactionsByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // 메모 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoLike ml WHERE ml.memo.id IN :memoIds")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+
+    // 회원이 누른 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoLike ml WHERE ml.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+
 
     @Query("SELECT m FROM MemoLike ml JOIN ml.memo m WHERE ml.member.id = :userId AND m.isDeleted = false")
     List<Memo> findMemosByMemberId(@Param("userId") Long userId);
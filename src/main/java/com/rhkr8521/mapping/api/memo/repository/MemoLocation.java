@@ -0,0 +1,8 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+// 메모 위치 정보 프로젝션 (geohash 백필용)
+public interface MemoLocation {
+    Long getId();
+    double getLat();
+    double getLng();
+}
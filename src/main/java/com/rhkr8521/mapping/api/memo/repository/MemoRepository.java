@@ -1,47 +1,138 @@
 package com.rhkr8521.mapping.api.memo.repository;
 
+import com.rhkr8521.mapping.api.memo.cache.MemoPin;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MemoRepository extends JpaRepository<Memo, Long> {
 
-    @Query(value = "SELECT * FROM memo m " +
+    // 반경 조회 공통 조건 (바운딩 박스)
+    String RADIUS_PIN_SELECT = "SELECT new com.rhkr8521.mapping.api.memo.cache.MemoPin(" +
+            "m.id, m.title, m.category, m.lat, m.lng, m.certified, m.secret, m.member.id) " +
+            "FROM Memo m " +
+            "WHERE m.isDeleted = false " +
+            "AND m.lat BETWEEN :minLat AND :maxLat " +
+            "AND m.lng BETWEEN :minLng AND :maxLng ";
+
+    // 반경 조회 공통 조건 (평면 근사 반경, 공개 범위, 키셋 커서) 및 정렬
+    String RADIUS_PIN_PAGE = "AND (m.lat - :lat) * (m.lat - :lat) + (m.lng - :lng) * (m.lng - :lng) * :lngScale <= :maxDistance " +
+            "AND ((m.secret = false AND m.member.id NOT IN :blockedIds) OR (m.secret = true AND m.member.id = :userId)) " +
+            "AND ((m.lat - :lat) * (m.lat - :lat) + (m.lng - :lng) * (m.lng - :lng) * :lngScale > :lastDistance " +
+            "OR ((m.lat - :lat) * (m.lat - :lat) + (m.lng - :lng) * (m.lng - :lng) * :lngScale = :lastDistance AND m.id > :lastId)) " +
+            "ORDER BY (m.lat - :lat) * (m.lat - :lat) + (m.lng - :lng) * (m.lng - :lng) * :lngScale, m.id";
+
+    // 반경 내 메모 핀을 가까운 순(평면 근사 거리, id)으로 커서 이후부터 조회 (키셋 페이지네이션)
+    // - 커버링 셀(geohash 인덱스) + 바운딩 박스 + 평면 근사 반경으로 후보를 좁히고, 정확한 거리 필터링은 서비스에서 수행
+    // - 공개 메모 중 차단하지 않은 사용자의 메모와 본인의 비공개 메모만 조회
+    @Query(RADIUS_PIN_SELECT + "AND m.geohash IN :cells " + RADIUS_PIN_PAGE)
+    List<MemoPin> findPinPageWithinRadiusInCells(@Param("cells") Collection<String> cells,
+                                                 @Param("lat") double lat,
+                                                 @Param("lng") double lng,
+                                                 @Param("lngScale") double lngScale,
+                                                 @Param("minLat") double minLat,
+                                                 @Param("maxLat") double maxLat,
+                                                 @Param("minLng") double minLng,
+                                                 @Param("maxLng") double maxLng,
+                                                 @Param("maxDistance") double maxDistance,
+                                                 @Param("userId") Long userId,
+                                                 @Param("blockedIds") Collection<Long> blockedIds,
+                                                 @Param("lastDistance") double lastDistance,
+                                                 @Param("lastId") long lastId,
+                                                 Pageable pageable);
+
+    // 커버링 셀이 너무 많은 넓은 반경은 바운딩 박스 + 평면 근사 반경으로만 조회 (조건과 정렬은 위와 동일)
+    @Query(RADIUS_PIN_SELECT + RADIUS_PIN_PAGE)
+    List<MemoPin> findPinPageWithinRadius(@Param("lat") double lat,
+                                          @Param("lng") double lng,
+                                          @Param("lngScale") double lngScale,
+                                          @Param("minLat") double minLat,
+                                          @Param("maxLat") double maxLat,
+                                          @Param("minLng") double minLng,
+                                          @Param("maxLng") double maxLng,
+                                          @Param("maxDistance") double maxDistance,
+                                          @Param("userId") Long userId,
+                                          @Param("blockedIds") Collection<Long> blockedIds,
+                                          @Param("lastDistance") double lastDistance,
+                                          @Param("lastId") long lastId,
+                                          Pageable pageable);
+
+    // 화면 영역 내 메모를 셀 + 카테고리 단위로 집계 (그리드 캐시로 처리할 수 없는 넓은 영역의 클러스터 조회용)
+    // - precision 은 저장된 geohash 길이(GeoUtil.CELL_PRECISION) 이하
+    // - 공개 메모 중 차단하지 않은 사용자의 메모와 본인의 비공개 메모만 집계
+    @Query(value = "SELECT LEFT(m.geohash, :precision) AS cell, m.category AS category, " +
+            "COUNT(*) AS cnt, SUM(m.lat) AS sumLat, SUM(m.lng) AS sumLng " +
+            "FROM memo m " +
             "WHERE m.is_deleted = false " +
-            "AND (6371 * acos(cos(radians(:lat)) * cos(radians(m.lat)) * " +
-            "cos(radians(m.lng) - radians(:lng)) + sin(radians(:lat)) * sin(radians(m.lat)))) <= :km",
+            "AND m.geohash IS NOT NULL " +
+            "AND m.lat BETWEEN :minLat AND :maxLat " +
+            "AND m.lng BETWEEN :minLng AND :maxLng " +
+            "AND ((m.secret = false AND m.user_id NOT IN (:blockedIds)) " +
+            "OR (m.secret = true AND m.user_id = :userId)) " +
+            "GROUP BY cell, category",
             nativeQuery = true)
-    List<Memo> findMemosWithinRadius(@Param("lat") double lat,
-                                     @Param("lng") double lng,
-                                     @Param("km") double km);
+    List<MemoClusterRow> aggregateClusters(@Param("precision") int precision,
+                                           @Param("minLat") double minLat,
+                                           @Param("maxLat") double maxLat,
+                                           @Param("minLng") double minLng,
+                                           @Param("maxLng") double maxLng,
+                                           @Param("userId") Long userId,
+                                           @Param("blockedIds") Collection<Long> blockedIds);
 
-    List<Memo> findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(Long memberId);
+    // 셀 단위 메모 핀 조회 (그리드 캐시 타일 적재용)
+    @Query("SELECT new com.rhkr8521.mapping.api.memo.cache.MemoPin(" +
+            "m.id, m.title, m.category, m.lat, m.lng, m.certified, m.secret, m.member.id) " +
+            "FROM Memo m " +
+            "WHERE m.isDeleted = false AND m.geohash IN :cells")
+    List<MemoPin> findPinsInCells(@Param("cells") Collection<String> cells);
 
-    // 좋아요 증가
-    @Modifying
-    @Query("update Memo m set m.likeCnt = m.likeCnt + 1 where m.id = :memoId")
-    void incrementLikeCount(@Param("memoId") Long memoId);
+    // id 순으로 메모 핀 청크 조회 (그리드 캐시 워밍용)
+    @Query("SELECT new com.rhkr8521.mapping.api.memo.cache.MemoPin(" +
+            "m.id, m.title, m.category, m.lat, m.lng, m.certified, m.secret, m.member.id) " +
+            "FROM Memo m " +
+            "WHERE m.isDeleted = false AND m.id > :lastId " +
+            "ORDER BY m.id")
+    List<MemoPin> findPinsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // geohash 가 채워지지 않은 메모 위치 조회
+    @Query("SELECT m.id AS id, m.lat AS lat, m.lng AS lng FROM Memo m WHERE m.geohash IS NULL")
+    List<MemoLocation> findLocationsWithoutGeohash(Pageable pageable);
 
-    // 좋아요 감소
+    // geohash 갱신
     @Modifying
-    @Query("update Memo m set m.likeCnt = case when m.likeCnt > 0 then m.likeCnt - 1 else 0 end where m.id = :memoId")
-    void decrementLikeCount(@Param("memoId") Long memoId);
+    @Query("update Memo m set m.geohash = :geohash where m.id = :memoId")
+    void updateGeohash(@Param("memoId") Long memoId, @Param("geohash") String geohash);
 
-    // 싫어요 증가
+    List<Memo> findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(Long memberId);
+
+    List<Memo> findByMemberId(Long memberId);
+
+    // 회원이 작성한 메모 위치를 id 순으로 조회 (데이터 정리용)
+    @Query("SELECT m.id AS id, m.lat AS lat, m.lng AS lng FROM Memo m WHERE m.member.id = :memberId ORDER BY m.id")
+    List<MemoLocation> findLocationsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 메모 일괄 삭제
     @Modifying
-    @Query("update Memo m set m.hateCnt = m.hateCnt + 1 where m.id = :memoId")
-    void incrementHateCount(@Param("memoId") Long memoId);
+    @Query("DELETE FROM Memo m WHERE m.id IN :memoIds")
+    int deleteAllByIds(@Param("memoIds") Collection<Long> memoIds);
 
-    // 싫어요 감소
+    // 회원이 좋아요를 누른 메모의 좋아요 수 감소 (회원 데이터 정리용)
     @Modifying
-    @Query("update Memo m set m.hateCnt = case when m.hateCnt > 0 then m.hateCnt - 1 else 0 end where m.id = :memoId")
-    void decrementHateCount(@Param("memoId") Long memoId);
+    @Query("update Memo m set m.likeCnt = case when m.likeCnt > 0 then m.likeCnt - 1 else 0 end " +
+            "where m.id in (select ml.memo.id from MemoLike ml where ml.member.id = :memberId)")
+    int decrementLikeCountsLikedBy(@Param("memberId") Long memberId);
 
-    List<Memo> findByMemberId(Long memberId);
+    // 회원이 싫어요를 누른 메모의 싫어요 수 감소 (회원 데이터 정리용)
+    @Modifying
+    @Query("update Memo m set m.hateCnt = case when m.hateCnt > 0 then m.hateCnt - 1 else 0 end " +
+            "where m.id in (select mh.memo.id from MemoHate mh where mh.member.id = :memberId)")
+    int decrementHateCountsHatedBy(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,8 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+// 회원이 누른 좋아요/싫어요 (반응 캐시 적재용)
+// - type: MEMO_LIKE, MEMO_HATE, COMMENT_LIKE
+public interface ReactionRow {
+    Long getTargetId();
+    String getType();
+}
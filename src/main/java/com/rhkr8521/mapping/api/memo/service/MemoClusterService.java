@@ -0,0 +1,166 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.memo.cache.MemoGridCache;
+import com.rhkr8521.mapping.api.memo.cache.MemoPin;
+import com.rhkr8521.mapping.api.memo.dto.MemoClusterDTO;
+import com.rhkr8521.mapping.api.memo.dto.MemoClusterResponseDTO;
+import com.rhkr8521.mapping.api.memo.dto.MemoTotalListResponseDTO;
+import com.rhkr8521.mapping.api.memo.repository.MemoClusterRow;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+import com.rhkr8521.mapping.common.exception.BadRequestException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MemoClusterService {
+
+    private final MemoRepository memoRepository;
+    private final MemoGridCache memoGridCache;
+    private final MemberService memberService;
+
+    // 이 줌 레벨 이상이면 클러스터 대신 개별 핀을 반환
+    @Value("${memo.cluster.pin-zoom-threshold:16}")
+    private int pinZoomThreshold;
+
+    // 화면 영역 + 줌 레벨 기준 메모 클러스터(또는 개별 핀) 조회
+    @Transactional(readOnly = true)
+    public MemoClusterResponseDTO getClusters(BoundingBox box, int zoom, UserDetails userDetails) {
+        final Long userId;
+        final LongOpenHashSet blockedIds;
+
+        if (userDetails != null) {
+            userId = memberService.getUserId(userDetails);
+            blockedIds = memberService.getBlockedUserIds(userId);
+        } else {
+            userId = null;
+            blockedIds = LongOpenHashSet.EMPTY;
+        }
+
+        // 확대된 화면에서는 개별 핀 반환
+        // - 확대 화면은 그리드 캐시로 충분히 처리되므로, 캐시가 처리할 수 없을 만큼 넓은 영역은 잘못된 요청으로 거부
+        if (zoom >= pinZoomThreshold) {
+            List<MemoPin> pins = memoGridCache.findInBox(box, GeoUtil.MAX_VIEWPORT_CELLS)
+                    .orElseThrow(() -> new BadRequestException(ErrorStatus.TOO_LARGE_MAP_BOUNDS_EXCEPTION.getMessage()));
+
+            List<MemoTotalListResponseDTO> visiblePins = pins.stream()
+                    .filter(pin -> pin.isVisibleTo(userId, blockedIds))
+                    .map(pin -> new MemoTotalListResponseDTO(
+                            pin.getId(),
+                            pin.getTitle(),
+                            pin.getCategory(),
+                            pin.getLat(),
+                            pin.getLng(),
+                            pin.isCertified(),
+                            pin.isSecret()))
+                    .toList();
+
+            return MemoClusterResponseDTO.builder()
+                    .zoom(zoom)
+                    .clustered(false)
+                    .clusters(Collections.emptyList())
+                    .pins(visiblePins)
+                    .build();
+        }
+
+        // 축소된 화면에서는 줌 레벨에 맞는 셀 단위로 집계
+        int precision = GeoUtil.clusterPrecision(zoom);
+        List<MemoClusterDTO> clusters = memoGridCache.findInBox(box, GeoUtil.MAX_VIEWPORT_CELLS)
+                .map(pins -> clusterPins(pins, precision, userId, blockedIds))
+                .orElseGet(() -> aggregateClusters(box, precision, userId, blockedIds));
+
+        return MemoClusterResponseDTO.builder()
+                .zoom(zoom)
+                .clustered(true)
+                .clusters(clusters)
+                .pins(Collections.emptyList())
+                .build();
+    }
+
+    // 그리드 캐시의 핀을 셀 단위로 집계
+    private List<MemoClusterDTO> clusterPins(List<MemoPin> pins, int precision, Long userId, LongOpenHashSet blockedIds) {
+        Map<String, ClusterAccumulator> clusters = new HashMap<>();
+        for (MemoPin pin : pins) {
+            if (!pin.isVisibleTo(userId, blockedIds)) {
+                continue;
+            }
+            clusters.computeIfAbsent(GeoUtil.encode(pin.getLat(), pin.getLng(), precision), k -> new ClusterAccumulator())
+                    .add(pin.getCategory(), 1, pin.getLat(), pin.getLng());
+        }
+        return toClusterDTOs(clusters);
+    }
+
+    // 캐시로 처리할 수 없는 넓은 영역은 DB 에서 셀 + 카테고리 단위로 집계
+    private List<MemoClusterDTO> aggregateClusters(BoundingBox box, int precision, Long userId, LongOpenHashSet blockedIds) {
+        // NOT IN () 은 SQL 문법 오류이므로 차단 목록이 비어 있으면 존재하지 않는 id 로 대체
+        List<Long> excludedIds = blockedIds.isEmpty() ? List.of(-1L) : blockedIds.toList();
+
+        List<MemoClusterRow> rows = memoRepository.aggregateClusters(precision,
+                box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(), userId, excludedIds);
+
+        Map<String, ClusterAccumulator> clusters = new HashMap<>();
+        for (MemoClusterRow row : rows) {
+            clusters.computeIfAbsent(row.getCell(), k -> new ClusterAccumulator())
+                    .add(row.getCategory(), row.getCnt(), row.getSumLat(), row.getSumLng());
+        }
+        return toClusterDTOs(clusters);
+    }
+
+    private List<MemoClusterDTO> toClusterDTOs(Map<String, ClusterAccumulator> clusters) {
+        List<MemoClusterDTO> result = new ArrayList<>(clusters.size());
+        clusters.forEach((cell, acc) -> result.add(acc.toDTO(cell)));
+        return result;
+    }
+
+    // 셀별 메모 수, 좌표 합계, 카테고리별 메모 수 누적
+    private static class ClusterAccumulator {
+        private long count;
+        private double sumLat;
+        private double sumLng;
+        private final Map<String, Long> categoryCounts = new HashMap<>();
+
+        void add(String category, long cnt, double latSum, double lngSum) {
+            count += cnt;
+            sumLat += latSum;
+            sumLng += lngSum;
+            categoryCounts.merge(category, cnt, Long::sum);
+        }
+
+        MemoClusterDTO toDTO(String cell) {
+            // 가장 많은 카테고리를 대표 카테고리로 사용 (동률이면 이름순)
+            String dominantCategory = null;
+            long dominantCount = -1;
+            for (Map.Entry<String, Long> entry : categoryCounts.entrySet()) {
+                String category = entry.getKey();
+                long cnt = entry.getValue();
+                if (cnt > dominantCount || (cnt == dominantCount && category != null
+                        && (dominantCategory == null || category.compareTo(dominantCategory) < 0))) {
+                    dominantCategory = category;
+                    dominantCount = cnt;
+                }
+            }
+
+            return MemoClusterDTO.builder()
+                    .cell(cell)
+                    .count(count)
+                    .lat(sumLat / count)
+                    .lng(sumLng / count)
+                    .category(dominantCategory)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.memo.repository.MemoLocation;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoGeohashBackfillService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final MemoRepository memoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 서버 시작 시 geohash 가 비어있는 기존 메모를 청크 단위로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillGeohash() {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<MemoLocation> locations = memoRepository.findLocationsWithoutGeohash(PageRequest.of(0, CHUNK_SIZE));
+                for (MemoLocation location : locations) {
+                    memoRepository.updateGeohash(location.getId(),
+                            GeoUtil.encode(location.getLat(), location.getLng(), GeoUtil.CELL_PRECISION));
+                }
+                return locations.size();
+            });
+
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+            if (updated < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("메모 geohash 백필 완료: {}건", total);
+        }
+    }
+}
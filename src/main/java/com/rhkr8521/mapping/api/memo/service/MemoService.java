@@ -1,34 +1,59 @@
 package com.rhkr8521.mapping.api.memo.service;
 
+import com.rhkr8521.mapping.api.aws.s3.PresignedUpload;
 import com.rhkr8521.mapping.api.aws.s3.S3Service;
+import com.rhkr8521.mapping.api.aws.s3.UploadedImage;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.memo.cache.MemoGridCache;
+import com.rhkr8521.mapping.api.memo.cache.MemoPin;
+import com.rhkr8521.mapping.api.memo.cache.ReactionCache;
+import com.rhkr8521.mapping.api.memo.cache.ReactionCounterBuffer;
 import com.rhkr8521.mapping.api.memo.dto.*;
 import com.rhkr8521.mapping.api.memo.entity.*;
+import com.rhkr8521.mapping.api.memo.event.MemoChangedEvent;
+import com.rhkr8521.mapping.api.memo.event.ReactionChangedEvent;
 import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+import com.rhkr8521.mapping.api.memo.util.MemoCursor;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.service.ProfanityDetectionService;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongOpenHashSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
@@ -42,67 +67,79 @@ public class MemoService {
     private final MemberService memberService;
     private final S3Service s3Service;
     private final ProfanityDetectionService profanityDetectionService;
+    private final MemoGridCache memoGridCache;
+    private final ReactionCache reactionCache;
+    private final ReactionCounterBuffer counterBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 트랜잭션 밖(스트리밍 응답 스레드)에서 조회할 때 사용하는 읽기 전용 트랜잭션 (복제본으로 라우팅)
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    // 반경 조회 최대 결과 수 및 페이지 크기
+    @Value("${memo.radius.max-results:5000}")
+    private int maxRadiusResults;
+
+    @Value("${memo.radius.max-page-size:200}")
+    private int maxRadiusPageSize;
+
+    // 직접 업로드한 이미지 최대 크기
+    @Value("${memo.image.direct-upload-max-bytes:31457280}")
+    private long directUploadMaxBytes;
+
+    // 메모 하나에 직접 업로드로 등록할 수 있는 최대 이미지 수
+    @Value("${memo.image.direct-upload-max-count:10}")
+    private int directUploadMaxCount;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
     // 메모 생성
-    @Transactional
+    // - 비속어 검증과 이미지 업로드(외부 I/O)는 트랜잭션 시작 전에 수행하여 DB 커넥션을 점유하지 않음
     public void createMemo(Long userId, MemoCreateRequestDTO memoRequest, List<MultipartFile> images, HttpServletRequest request) throws IOException {
 
-        // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
         // 접속 IP 추출
         String clientIp = extractClientIp(request);
 
-        // 인증 여부 판단
-        boolean certified = false;
-        if (!memoRequest.isSecret()) {
-            double distanceKm = calculateDistance(memoRequest.getLat(), memoRequest.getLng(), memoRequest.getCurrentLat(), memoRequest.getCurrentLng());
-            // 10m = 0.01km
-            if (distanceKm <= 0.1) {
-                certified = true;
+        // 제목과 내용에 대해 비속어 검증 (개인 메모일 경우 필터링 해제)
+        List<String> texts = Arrays.asList(memoRequest.getTitle(), memoRequest.getContent());
+        List<ProfanityResponseDTO> profanityResponses = memoRequest.isSecret()
+                ? null
+                : profanityDetectionService.checkTexts(texts);
+
+        // 이미지 업로드
+        List<UploadedImage> uploadedImages = uploadImages(userId, images);
+
+        executeInTransaction(uploadedImages, () -> {
+            // 해당 유저를 찾을 수 없을 경우 예외처리
+            Member member = memberRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+
+            // 인증 여부 판단
+            boolean certified = false;
+            if (!memoRequest.isSecret()) {
+                double distanceKm = GeoUtil.distanceKm(memoRequest.getLat(), memoRequest.getLng(), memoRequest.getCurrentLat(), memoRequest.getCurrentLng());
+                // 10m = 0.01km
+                if (distanceKm <= 0.1) {
+                    certified = true;
+                }
             }
-        }
 
-        // 개인 메모일 경우 필터링 해제
-        if(memoRequest.isSecret()){
-            Memo memo = Memo.builder()
-                    .member(member)
-                    .title(memoRequest.getTitle())
-                    .content(memoRequest.getContent())
-                    .lat(memoRequest.getLat())
-                    .lng(memoRequest.getLng())
-                    .category(memoRequest.getCategory())
-                    .likeCnt(0)
-                    .hateCnt(0)
-                    .createIp(clientIp)
-                    .lastModifyIp(null)
-                    .secret(memoRequest.isSecret())
-                    .certified(certified)
-                    .modify(false)
-                    .isHidden(false)
-                    .isDeleted(false)
-                    .build();
-
-            // 이미지 처리
-            if (images != null && !images.isEmpty()) {
-
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), images);
-                memo.addImages(imageUrls);
+            String title = memoRequest.getTitle();
+            String content = memoRequest.getContent();
+            if (profanityResponses != null) {
+                profanityDetectionService.saveDetectedProfanity(member, texts, profanityResponses);
+                title = profanityResponses.get(0).getCensoredText();
+                content = profanityResponses.get(1).getCensoredText();
             }
 
-            memoRepository.save(memo);
-
-        } else{
-
-            // 제목과 내용에 대해 비속어 검증
-            ProfanityResponseDTO titleResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getTitle());
-            ProfanityResponseDTO contentResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getContent());
-
             Memo memo = Memo.builder()
                     .member(member)
-                    .title(titleResponse.getCensoredText())
-                    .content(contentResponse.getCensoredText())
+                    .title(title)
+                    .content(content)
                     .lat(memoRequest.getLat())
                     .lng(memoRequest.getLng())
                     .category(memoRequest.getCategory())
@@ -117,28 +154,11 @@ public class MemoService {
                     .isDeleted(false)
                     .build();
 
-            // 이미지 처리
-            if (images != null && !images.isEmpty()) {
+            uploadedImages.forEach(image -> memo.addImage(image.getImageUrl(), image.getThumbnailUrl()));
 
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), images);
-                memo.addImages(imageUrls);
-            }
-
-            memoRepository.save(memo);
-        }
-    }
-
-    // 거리 계산 메서드(단위: km)
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        double earthRadius = 6371; // km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                        Math.sin(dLng / 2) * Math.sin(dLng / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double dist = earthRadius * c;
-        return dist;
+            Memo savedMemo = memoRepository.save(memo);
+            eventPublisher.publishEvent(MemoChangedEvent.saved(savedMemo));
+        });
     }
 
     // 클라이언트 IP 추출 메소드
@@ -157,46 +177,207 @@ public class MemoService {
     }
 
     // 전체 메모 조회(공개 + 비공개)
+    // - 가까운 순으로 최대 maxRadiusResults 건까지만 반환
     @Transactional(readOnly = true)
     public List<MemoTotalListResponseDTO> getMemosWithinRadius(double lat, double lng, double km, UserDetails userDetails) {
-        List<Memo> allMemos = memoRepository.findMemosWithinRadius(lat, lng, km);
-        final List<Long> blockedIds;
+        return findPinPageWithinRadius(lat, lng, km, userDetails, MemoCursor.FIRST, maxRadiusResults).getMemos();
+    }
+
+    // 전체 메모 페이지 조회(공개 + 비공개, 가까운 순 커서 기반)
+    @Transactional(readOnly = true)
+    public MemoTotalPageResponseDTO getMemosWithinRadiusPage(double lat, double lng, double km, String cursor, int size, UserDetails userDetails) {
+        int pageSize = Math.max(1, Math.min(size, maxRadiusPageSize));
+        return findPinPageWithinRadius(lat, lng, km, userDetails, MemoCursor.decode(cursor), pageSize);
+    }
+
+    /**
+     * 반경 내 메모를 가까운 순으로 순회 (최대 maxRadiusResults 건, 스트리밍 조회용)
+     * - 그리드 캐시로 처리할 수 있는 반경은 스냅샷을 한 번만 정렬하여 순회
+     * - 넓은 반경은 DB 키셋 커서로 다음 페이지를 필요할 때 이어서 조회
+     * - 트랜잭션 없이 호출하여 스트리밍 중 커넥션을 점유하지 않음 (페이지 쿼리마다 읽기 전용 트랜잭션)
+     */
+    public Iterator<MemoTotalListResponseDTO> iterateMemosWithinRadius(double lat, double lng, double km, UserDetails userDetails) {
+        final Long userId;
+        final LongOpenHashSet blockedIds;
 
         if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+            userId = memberService.getUserId(userDetails);
             blockedIds = memberService.getBlockedUserIds(userId);
         } else {
-            blockedIds = Collections.emptyList();
+            userId = null;
+            blockedIds = LongOpenHashSet.EMPTY;
         }
 
-        // 공개 메모 필터: 차단된 사용자의 메모는 제외
-        List<Memo> publicMemos = allMemos.stream()
-                .filter(m -> !m.isSecret())
-                .filter(m -> blockedIds.isEmpty() || !blockedIds.contains(m.getMember().getId()))
-                .toList();
+        double lngScale = GeoUtil.lngScale(lat);
+        Optional<List<MemoPin>> cached = memoGridCache.findWithinRadius(lat, lng, km);
+        Iterator<MemoPin> pins = cached.isPresent()
+                ? cached.get().stream()
+                        .filter(p -> p.isVisibleTo(userId, blockedIds))
+                        .sorted(byDistance(lat, lng, lngScale))
+                        .iterator()
+                : new RadiusPinIterator(lat, lng, km, lngScale, userId, blockedIds);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pins, Spliterator.ORDERED), false)
+                .limit(maxRadiusResults)
+                .map(this::toTotalListDTO)
+                .iterator();
+    }
+
+    // 반경 내 메모를 가까운 순(평면 근사 거리, id)으로 커서 이후 size 건 조회
+    private MemoTotalPageResponseDTO findPinPageWithinRadius(double lat, double lng, double km, UserDetails userDetails,
+                                                             MemoCursor cursor, int size) {
+        final Long userId;
+        final LongOpenHashSet blockedIds;
 
-        List<Memo> privateMemos = new ArrayList<>();
         if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            privateMemos = allMemos.stream()
-                    .filter(m -> m.isSecret() && m.getMember().getId().equals(userId))
+            userId = memberService.getUserId(userDetails);
+            blockedIds = memberService.getBlockedUserIds(userId);
+        } else {
+            userId = null;
+            blockedIds = LongOpenHashSet.EMPTY;
+        }
+
+        double lngScale = GeoUtil.lngScale(lat);
+
+        List<MemoPin> pagePins;
+        boolean hasNext;
+        MemoPin last;
+
+        // 그리드 캐시로 처리할 수 있는 반경은 캐시에서 조회 후 정렬
+        Optional<List<MemoPin>> cached = memoGridCache.findWithinRadius(lat, lng, km);
+        if (cached.isPresent()) {
+            List<MemoPin> sorted = cached.get().stream()
+                    .filter(p -> p.isVisibleTo(userId, blockedIds))
+                    .filter(p -> cursor.isBefore(GeoUtil.planarDistance(lat, lng, p.getLat(), p.getLng(), lngScale), p.getId()))
+                    .sorted(byDistance(lat, lng, lngScale))
+                    .toList();
+
+            hasNext = sorted.size() > size;
+            pagePins = hasNext ? sorted.subList(0, size) : sorted;
+            last = pagePins.isEmpty() ? null : pagePins.get(pagePins.size() - 1);
+        } else {
+            // 넓은 반경은 DB 에서 키셋 페이지네이션으로 조회 (NOT IN () 방지를 위해 빈 차단 목록은 존재하지 않는 id 로 대체)
+            BoundingBox box = GeoUtil.boundingBox(lat, lng, km);
+            List<String> cells = GeoUtil.coveringCells(box, GeoUtil.CELL_PRECISION, GeoUtil.MAX_COVERING_CELLS);
+            List<Long> excludedIds = blockedIds.isEmpty() ? List.of(-1L) : blockedIds.toList();
+            List<MemoPin> candidates = findPinCandidates(lat, lng, km, lngScale, box, cells, userId, excludedIds, cursor, size + 1);
+
+            hasNext = candidates.size() > size;
+            List<MemoPin> scanned = hasNext ? candidates.subList(0, size) : candidates;
+            // 커서는 정확한 거리 필터링 전 마지막으로 조회한 행 기준 (필터링으로 페이지가 size 보다 작을 수 있음)
+            last = scanned.isEmpty() ? null : scanned.get(scanned.size() - 1);
+            pagePins = scanned.stream()
+                    .filter(p -> GeoUtil.distanceKm(lat, lng, p.getLat(), p.getLng()) <= km)
                     .toList();
         }
 
-        // 공개 메모와 내 프라이빗 메모 합치기
-        List<Memo> combinedMemos = new ArrayList<>(publicMemos);
-        combinedMemos.addAll(privateMemos);
+        String nextCursor = hasNext && last != null
+                ? new MemoCursor(GeoUtil.planarDistance(lat, lng, last.getLat(), last.getLng(), lngScale), last.getId()).encode()
+                : null;
 
-        return combinedMemos.stream()
-                .map(memo -> new MemoTotalListResponseDTO(
-                        memo.getId(),
-                        memo.getTitle(),
-                        memo.getCategory(),
-                        memo.getLat(),
-                        memo.getLng(),
-                        memo.isCertified(),
-                        memo.isSecret()))
+        List<MemoTotalListResponseDTO> memos = pagePins.stream()
+                .map(this::toTotalListDTO)
                 .collect(Collectors.toList());
+
+        return MemoTotalPageResponseDTO.builder()
+                .memos(memos)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    // DB 에서 반경 내 메모 핀 후보를 커서 이후 limit 건 조회 (커버링 셀이 있으면 geohash 인덱스로 후보를 좁힘)
+    private List<MemoPin> findPinCandidates(double lat, double lng, double km, double lngScale, BoundingBox box, List<String> cells,
+                                            Long userId, List<Long> excludedIds, MemoCursor cursor, int limit) {
+        if (!cells.isEmpty()) {
+            return memoRepository.findPinPageWithinRadiusInCells(cells, lat, lng, lngScale,
+                    box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(), GeoUtil.planarRadius(lat, km),
+                    userId, excludedIds, cursor.getDistance(), cursor.getId(), PageRequest.of(0, limit));
+        }
+        return memoRepository.findPinPageWithinRadius(lat, lng, lngScale,
+                box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(), GeoUtil.planarRadius(lat, km),
+                userId, excludedIds, cursor.getDistance(), cursor.getId(), PageRequest.of(0, limit));
+    }
+
+    // 평면 근사 거리, id 순 정렬 (DB 키셋 정렬과 동일)
+    private static Comparator<MemoPin> byDistance(double lat, double lng, double lngScale) {
+        return Comparator
+                .comparingDouble((MemoPin p) -> GeoUtil.planarDistance(lat, lng, p.getLat(), p.getLng(), lngScale))
+                .thenComparingLong(MemoPin::getId);
+    }
+
+    private MemoTotalListResponseDTO toTotalListDTO(MemoPin pin) {
+        return new MemoTotalListResponseDTO(
+                pin.getId(),
+                pin.getTitle(),
+                pin.getCategory(),
+                pin.getLat(),
+                pin.getLng(),
+                pin.isCertified(),
+                pin.isSecret());
+    }
+
+    // DB 키셋 커서로 반경 내 메모 핀을 maxRadiusPageSize 건씩 이어서 조회 (정확한 거리 필터링 포함)
+    private class RadiusPinIterator implements Iterator<MemoPin> {
+
+        private final double lat;
+        private final double lng;
+        private final double km;
+        private final double lngScale;
+        private final BoundingBox box;
+        // geohash IN 조건에 사용할 커버링 셀 (MAX_COVERING_CELLS 를 넘으면 빈 목록으로 바운딩 박스만 사용)
+        private final List<String> cells;
+        private final Long userId;
+        // NOT IN () 방지를 위해 빈 차단 목록은 존재하지 않는 id 로 대체
+        private final List<Long> excludedIds;
+
+        private MemoCursor cursor = MemoCursor.FIRST;
+        private Iterator<MemoPin> page = Collections.emptyIterator();
+        private boolean hasMorePages = true;
+
+        private RadiusPinIterator(double lat, double lng, double km, double lngScale, Long userId, LongOpenHashSet blockedIds) {
+            this.lat = lat;
+            this.lng = lng;
+            this.km = km;
+            this.lngScale = lngScale;
+            this.box = GeoUtil.boundingBox(lat, lng, km);
+            this.cells = GeoUtil.coveringCells(box, GeoUtil.CELL_PRECISION, GeoUtil.MAX_COVERING_CELLS);
+            this.userId = userId;
+            this.excludedIds = blockedIds.isEmpty() ? List.of(-1L) : blockedIds.toList();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && hasMorePages) {
+                fetchNextPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public MemoPin next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private void fetchNextPage() {
+            // 스트리밍 응답 스레드에서 호출되므로 페이지마다 읽기 전용 트랜잭션으로 조회 (Master 대신 복제본 사용)
+            List<MemoPin> candidates = readOnlyTransactionTemplate.execute(status -> findPinCandidates(lat, lng, km, lngScale,
+                    box, cells, userId, excludedIds, cursor, maxRadiusPageSize + 1));
+
+            hasMorePages = candidates.size() > maxRadiusPageSize;
+            List<MemoPin> scanned = hasMorePages ? candidates.subList(0, maxRadiusPageSize) : candidates;
+            if (!scanned.isEmpty()) {
+                // 커서는 정확한 거리 필터링 전 마지막으로 조회한 행 기준
+                MemoPin last = scanned.get(scanned.size() - 1);
+                cursor = new MemoCursor(GeoUtil.planarDistance(lat, lng, last.getLat(), last.getLng(), lngScale), last.getId());
+            }
+            page = scanned.stream()
+                    .filter(p -> GeoUtil.distanceKm(lat, lng, p.getLat(), p.getLng()) <= km)
+                    .iterator();
+        }
     }
 
     // 메모 상세 조회
@@ -212,9 +393,9 @@ public class MemoService {
 
         // 유저가 로그인한 경우 차단한 사용자의 메모라면 조회 못하도록 처리
         if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            final List<Long> blockedIds = memberService.getBlockedUserIds(userId);
-            if (!blockedIds.isEmpty() && blockedIds.contains(memo.getMember().getId())) {
+            Long userId = memberService.getUserId(userDetails);
+            final LongOpenHashSet blockedIds = memberService.getBlockedUserIds(userId);
+            if (blockedIds.contains(memo.getMember().getId())) {
                 throw new BadRequestException(ErrorStatus.CANT_ACCESS_BLOCK_USER_MEMO_EXCEPTION.getMessage());
             }
         }
@@ -224,7 +405,7 @@ public class MemoService {
             if (userDetails == null) {
                 throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
             }
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+            Long userId = memberService.getUserId(userDetails);
             if (!memo.getMember().getId().equals(userId)) {
                 throw new NotFoundException(ErrorStatus.INVALID_VIEW_AUTH.getMessage());
             }
@@ -235,9 +416,9 @@ public class MemoService {
         boolean myHate = false;
 
         if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            myLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId).isPresent();
-            myHate = !myLike && memoHateRepository.findByMemoIdAndMemberId(memoId, userId).isPresent();
+            Long userId = memberService.getUserId(userDetails);
+            myLike = reactionCache.getLikedMemoIds(userId, List.of(memoId)).contains(memoId);
+            myHate = !myLike && reactionCache.getHatedMemoIds(userId, List.of(memoId)).contains(memoId);
             myMemo = memo.getMember().getId().equals(userId);
         }
 
@@ -255,8 +436,8 @@ public class MemoService {
                 .title(memo.getTitle())
                 .date(formattedDate)
                 .content(memo.getContent())
-                .likeCnt(memo.getLikeCnt())
-                .hateCnt(memo.getHateCnt())
+                .likeCnt(counterBuffer.getMemoLikeCount(memo.getId(), memo.getLikeCnt()))
+                .hateCnt(counterBuffer.getMemoHateCount(memo.getId(), memo.getHateCnt()))
                 .images(imageUrls)
                 .lat(memo.getLat())
                 .lng(memo.getLng())
@@ -283,9 +464,9 @@ public class MemoService {
                         memo.getTitle(),
                         memo.getContent(),
                         memo.getCategory(),
-                        memo.getLikeCnt(),
-                        memo.getHateCnt(),
-                        memo.getImages().stream().map(MemoImage::getImageUrl).collect(Collectors.toList()),
+                        counterBuffer.getMemoLikeCount(memo.getId(), memo.getLikeCnt()),
+                        counterBuffer.getMemoHateCount(memo.getId(), memo.getHateCnt()),
+                        memo.getImages().stream().map(MemoImage::getListImageUrl).collect(Collectors.toList()),
                         memo.isSecret()
                 )).collect(Collectors.toList());
     }
@@ -328,38 +509,48 @@ public class MemoService {
                 .build();
 
         memoRepository.save(deletedMemo);
+        eventPublisher.publishEvent(MemoChangedEvent.deleted(deletedMemo));
     }
 
     // (구)메모 수정
-    @Transactional
+    // - 비속어 검증과 이미지 업로드(외부 I/O)는 트랜잭션 시작 전에, 기존 이미지 삭제는 커밋 이후에 수행
     public void exUpdateMemo(Long memoId, Long userId, MemoCreateRequestDTO memoRequest,
                            List<MultipartFile> newImages, List<String> deleteImageUrls,
                            HttpServletRequest request) throws IOException {
 
-        // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 해당 메모를 찾을 수 없을 경우 예외처리
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 메모 작성자 확인
-        if (!memo.getMember().getId().equals(userId)) {
-            throw new BadRequestException(ErrorStatus.MEMO_WRITER_NOT_SAME_USER_EXCEPTION.getMessage());
-        }
-
         // 접속 IP 추출
         String clientIp = extractClientIp(request);
 
-        // 개인 메모일 경우 필터링 해제
-        if(memoRequest.isSecret()){
+        // 제목과 내용에 대해 비속어 검증 (개인 메모일 경우 필터링 해제)
+        List<String> texts = Arrays.asList(memoRequest.getTitle(), memoRequest.getContent());
+        List<ProfanityResponseDTO> profanityResponses = memoRequest.isSecret()
+                ? null
+                : profanityDetectionService.checkTexts(texts);
+
+        // 새로운 이미지 업로드
+        List<UploadedImage> uploadedImages = uploadImages(userId, newImages);
+
+        executeInTransaction(uploadedImages, () -> {
+            // 해당 유저를 찾을 수 없을 경우 예외처리
+            Member member = memberRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+            Memo memo = findMemoOfWriter(memoId, userId);
+
+            // 개인 메모일 경우 기존 제목과 내용 유지
+            String title = memo.getTitle();
+            String content = memo.getContent();
+            if (profanityResponses != null) {
+                profanityDetectionService.saveDetectedProfanity(member, texts, profanityResponses);
+                title = profanityResponses.get(0).getCensoredText();
+                content = profanityResponses.get(1).getCensoredText();
+            }
+
             // 메모 정보 업데이트
             Memo updatedMemo = Memo.builder()
                     .id(memo.getId())
                     .member(memo.getMember())
-                    .title(memo.getTitle())
-                    .content(memo.getContent())
+                    .title(title)
+                    .content(content)
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
@@ -371,95 +562,73 @@ public class MemoService {
                     .modify(true)
                     .build();
 
-            // 삭제할 이미지 처리
-            if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
-                List<MemoImage> imagesToRemove = memo.getImages().stream()
-                        .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
-                        .toList();
-
-                for (MemoImage image : imagesToRemove) {
-                    // S3에서 이미지 삭제
-                    s3Service.deleteFile(image.getImageUrl());
-                    // 메모에서 이미지 제거
-                    updatedMemo.getImages().remove(image);
-                }
-            }
+            updateImages(memo, updatedMemo, uploadedImages, deleteImageUrls);
 
-            // 새로운 이미지 업로드 및 추가
-            if (newImages != null && !newImages.isEmpty()) {
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), newImages);
-                for (String url : imageUrls) {
-                    MemoImage image = MemoImage.builder()
-                            .imageUrl(url)
-                            .memo(updatedMemo)
-                            .build();
-                    updatedMemo.getImages().add(image);
-                }
-            }
+            Memo savedMemo = memoRepository.save(updatedMemo);
+            eventPublisher.publishEvent(MemoChangedEvent.saved(savedMemo));
+        });
+    }
+
+    // (신)메모 수정
+    // - 비속어 검증과 이미지 업로드(외부 I/O)는 트랜잭션 시작 전에, 기존 이미지 삭제는 커밋 이후에 수행
+    public void updateMemo(Long memoId, Long userId, MemoCreateRequestDTO memoRequest,
+                           List<MultipartFile> newImages, List<String> deleteImageUrls,
+                           HttpServletRequest request) throws IOException {
+
+        // 접속 IP 추출
+        String clientIp = extractClientIp(request);
 
-            memoRepository.save(updatedMemo);
-        }else{
-            // 제목과 내용에 대해 비속어 검증
-            ProfanityResponseDTO titleResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getTitle());
-            ProfanityResponseDTO contentResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getContent());
+        // 제목과 내용에 대해 비속어 검증 (개인 메모일 경우 필터링 해제)
+        List<String> texts = Arrays.asList(memoRequest.getTitle(), memoRequest.getContent());
+        List<ProfanityResponseDTO> profanityResponses = memoRequest.isSecret()
+                ? null
+                : profanityDetectionService.checkTexts(texts);
+
+        // 새로운 이미지 업로드
+        List<UploadedImage> uploadedImages = uploadImages(userId, newImages);
+
+        executeInTransaction(uploadedImages, () -> {
+            // 해당 유저를 찾을 수 없을 경우 예외처리
+            Member member = memberRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+            Memo memo = findMemoOfWriter(memoId, userId);
+
+            // 개인 메모일 경우 기존 제목과 내용 유지
+            String title = memo.getTitle();
+            String content = memo.getContent();
+            if (profanityResponses != null) {
+                profanityDetectionService.saveDetectedProfanity(member, texts, profanityResponses);
+                title = profanityResponses.get(0).getCensoredText();
+                content = profanityResponses.get(1).getCensoredText();
+            }
 
             // 메모 정보 업데이트
             Memo updatedMemo = Memo.builder()
                     .id(memo.getId())
                     .member(memo.getMember())
-                    .title(titleResponse.getCensoredText())
-                    .content(contentResponse.getCensoredText())
+                    .title(title)
+                    .content(content)
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
                     .likeCnt(memo.getLikeCnt())
                     .hateCnt(memo.getHateCnt())
+                    .secret(memoRequest.isSecret())
                     .lastModifyIp(clientIp)
                     .createIp(memo.getCreateIp())
                     .images(new ArrayList<>(memo.getImages()))
                     .modify(true)
                     .build();
 
-            // 삭제할 이미지 처리
-            if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
-                List<MemoImage> imagesToRemove = memo.getImages().stream()
-                        .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
-                        .toList();
-
-                for (MemoImage image : imagesToRemove) {
-                    // S3에서 이미지 삭제
-                    s3Service.deleteFile(image.getImageUrl());
-                    // 메모에서 이미지 제거
-                    updatedMemo.getImages().remove(image);
-                }
-            }
+            updateImages(memo, updatedMemo, uploadedImages, deleteImageUrls);
 
-            // 새로운 이미지 업로드 및 추가
-            if (newImages != null && !newImages.isEmpty()) {
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), newImages);
-                for (String url : imageUrls) {
-                    MemoImage image = MemoImage.builder()
-                            .imageUrl(url)
-                            .memo(updatedMemo)
-                            .build();
-                    updatedMemo.getImages().add(image);
-                }
-            }
-
-            memoRepository.save(updatedMemo);
-        }
+            Memo savedMemo = memoRepository.save(updatedMemo);
+            eventPublisher.publishEvent(MemoChangedEvent.saved(savedMemo));
+        });
     }
 
-    // (신)메모 수정
-    @Transactional
-    public void updateMemo(Long memoId, Long userId, MemoCreateRequestDTO memoRequest,
-                           List<MultipartFile> newImages, List<String> deleteImageUrls,
-                           HttpServletRequest request) throws IOException {
-
-        // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
+    // 수정할 메모 조회 및 작성자 확인
+    private Memo findMemoOfWriter(Long memoId, Long userId) {
         // 해당 메모를 찾을 수 없을 경우 예외처리
         Memo memo = memoRepository.findById(memoId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
@@ -468,224 +637,228 @@ public class MemoService {
         if (!memo.getMember().getId().equals(userId)) {
             throw new BadRequestException(ErrorStatus.MEMO_WRITER_NOT_SAME_USER_EXCEPTION.getMessage());
         }
+        return memo;
+    }
 
-        // 접속 IP 추출
-        String clientIp = extractClientIp(request);
+    // 메모 수정 시 이미지 삭제 및 추가
+    private void updateImages(Memo memo, Memo updatedMemo, List<UploadedImage> uploadedImages, List<String> deleteImageUrls) {
+        // 삭제할 이미지 처리
+        if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
+            List<MemoImage> imagesToRemove = memo.getImages().stream()
+                    .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
+                    .toList();
 
-        // 개인 메모일 경우 필터링 해제
-        if(memoRequest.isSecret()){
-            // 메모 정보 업데이트
-            Memo updatedMemo = Memo.builder()
-                    .id(memo.getId())
-                    .member(memo.getMember())
-                    .title(memo.getTitle())
-                    .content(memo.getContent())
-                    .lat(memo.getLat())
-                    .lng(memo.getLng())
-                    .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
-                    .lastModifyIp(clientIp)
-                    .createIp(memo.getCreateIp())
-                    .secret(memoRequest.isSecret())
-                    .images(new ArrayList<>(memo.getImages()))
-                    .modify(true)
-                    .build();
+            // 메모에서 이미지 제거
+            updatedMemo.getImages().removeAll(imagesToRemove);
 
-            // 삭제할 이미지 처리
-            if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
-                List<MemoImage> imagesToRemove = memo.getImages().stream()
-                        .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
-                        .toList();
-
-                for (MemoImage image : imagesToRemove) {
-                    // S3에서 이미지 삭제
-                    s3Service.deleteFile(image.getImageUrl());
-                    // 메모에서 이미지 제거
-                    updatedMemo.getImages().remove(image);
-                }
-            }
+            // S3 이미지(썸네일 포함)는 커밋 이후 삭제 (롤백 시 유지)
+            s3Service.deleteFilesAfterCommit(imagesToRemove.stream()
+                    .flatMap(image -> image.getFileUrls().stream())
+                    .toList());
+        }
 
-            // 새로운 이미지 업로드 및 추가
-            if (newImages != null && !newImages.isEmpty()) {
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), newImages);
-                for (String url : imageUrls) {
-                    MemoImage image = MemoImage.builder()
-                            .imageUrl(url)
-                            .memo(updatedMemo)
-                            .build();
-                    updatedMemo.getImages().add(image);
-                }
-            }
+        // 업로드한 이미지 추가
+        for (UploadedImage uploaded : uploadedImages) {
+            MemoImage image = MemoImage.builder()
+                    .imageUrl(uploaded.getImageUrl())
+                    .thumbnailUrl(uploaded.getThumbnailUrl())
+                    .memo(updatedMemo)
+                    .build();
+            updatedMemo.getImages().add(image);
+        }
+    }
 
-            memoRepository.save(updatedMemo);
-        }else{
-            // 제목과 내용에 대해 비속어 검증
-            ProfanityResponseDTO titleResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getTitle());
-            ProfanityResponseDTO contentResponse = profanityDetectionService.checkTextAndSave(member, memoRequest.getContent());
+    private List<UploadedImage> uploadImages(Long userId, List<MultipartFile> images) throws IOException {
+        if (images == null || images.isEmpty()) {
+            return List.of();
+        }
+        return s3Service.uploadMemoImages(String.valueOf(userId), images);
+    }
 
-            // 메모 정보 업데이트
-            Memo updatedMemo = Memo.builder()
-                    .id(memo.getId())
-                    .member(memo.getMember())
-                    .title(titleResponse.getCensoredText())
-                    .content(contentResponse.getCensoredText())
-                    .lat(memo.getLat())
-                    .lng(memo.getLng())
-                    .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
-                    .secret(memoRequest.isSecret())
-                    .lastModifyIp(clientIp)
-                    .createIp(memo.getCreateIp())
-                    .images(new ArrayList<>(memo.getImages()))
-                    .modify(true)
-                    .build();
+    // 트랜잭션 안에서 실행하고, 저장에 실패하면 트랜잭션 전에 업로드한 이미지 삭제
+    private void executeInTransaction(List<UploadedImage> uploadedImages, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } catch (RuntimeException | Error e) {
+            s3Service.deleteFilesAsync(uploadedImages.stream()
+                    .flatMap(image -> image.getFileUrls().stream())
+                    .toList());
+            throw e;
+        }
+    }
 
-            // 삭제할 이미지 처리
-            if (deleteImageUrls != null && !deleteImageUrls.isEmpty()) {
-                List<MemoImage> imagesToRemove = memo.getImages().stream()
-                        .filter(image -> deleteImageUrls.contains(image.getImageUrl()))
-                        .toList();
-
-                for (MemoImage image : imagesToRemove) {
-                    // S3에서 이미지 삭제
-                    s3Service.deleteFile(image.getImageUrl());
-                    // 메모에서 이미지 제거
-                    updatedMemo.getImages().remove(image);
-                }
+    // 메모 이미지 직접 업로드용 서명 URL 발급
+    public List<MemoImageUploadResponseDTO> createImageUploadUrls(Long userId, List<MemoImageUploadRequestDTO.ImageFile> images) {
+        if (images.size() > directUploadMaxCount) {
+            throw new BadRequestException(ErrorStatus.TOO_MANY_MEMO_IMAGES_EXCEPTION.getMessage());
+        }
+        // 일부만 발급되지 않도록 형식을 먼저 모두 확인
+        for (MemoImageUploadRequestDTO.ImageFile image : images) {
+            if (!s3Service.isDirectUploadContentType(image.getContentType())) {
+                throw new BadRequestException(ErrorStatus.NOT_ALLOW_DIRECT_UPLOAD_IMG_MIME.getMessage());
             }
+        }
 
-            // 새로운 이미지 업로드 및 추가
-            if (newImages != null && !newImages.isEmpty()) {
-                List<String> imageUrls = s3Service.uploadMemoImages(String.valueOf(userId), newImages);
-                for (String url : imageUrls) {
-                    MemoImage image = MemoImage.builder()
-                            .imageUrl(url)
-                            .memo(updatedMemo)
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return images.stream()
+                .map(image -> {
+                    PresignedUpload upload = s3Service.presignMemoImageUpload(
+                            String.valueOf(userId), image.getFileName(), image.getContentType());
+                    return MemoImageUploadResponseDTO.builder()
+                            .key(upload.getKey())
+                            .uploadUrl(upload.getUploadUrl())
+                            .headers(upload.getHeaders())
+                            .expiresAt(upload.getExpiresAt().format(dateTimeFormatter))
                             .build();
-                    updatedMemo.getImages().add(image);
-                }
+                })
+                .toList();
+    }
+
+    /**
+     * 직접 업로드한 이미지를 메모에 등록
+     * - 저장소 확인(외부 I/O)은 트랜잭션 시작 전에 수행
+     * - 직접 업로드한 이미지는 썸네일이 없으므로 목록에서도 원본 이미지를 사용
+     */
+    public void attachUploadedImages(Long memoId, Long userId, List<String> keys) {
+        String keyPrefix = s3Service.memoImageKeyPrefix(String.valueOf(userId));
+
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        if (distinctKeys.size() > directUploadMaxCount) {
+            throw new BadRequestException(ErrorStatus.TOO_MANY_MEMO_IMAGES_EXCEPTION.getMessage());
+        }
+
+        List<String> imageUrls = new ArrayList<>();
+        for (String key : distinctKeys) {
+            // 본인 경로에 발급된 키만 등록 가능
+            if (key == null || !key.startsWith(keyPrefix) || key.contains("..")) {
+                throw new BadRequestException(ErrorStatus.INVALID_UPLOAD_IMAGE_KEY_EXCEPTION.getMessage());
             }
 
-            memoRepository.save(updatedMemo);
+            HeadObjectResponse file = s3Service.findFile(key)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.UPLOAD_IMAGE_NOTFOUND_EXCEPTION.getMessage()));
+
+            // 허용된 이미지 형식이 아니거나 너무 큰 파일은 저장소에서 삭제 후 예외처리
+            if (!s3Service.isDirectUploadContentType(file.contentType())) {
+                s3Service.deleteFilesAsync(List.of(s3Service.toFileUrl(key)));
+                throw new BadRequestException(ErrorStatus.NOT_ALLOW_DIRECT_UPLOAD_IMG_MIME.getMessage());
+            }
+            if (file.contentLength() == null || file.contentLength() > directUploadMaxBytes) {
+                s3Service.deleteFilesAsync(List.of(s3Service.toFileUrl(key)));
+                throw new BadRequestException(ErrorStatus.TOO_LARGE_UPLOAD_IMAGE_EXCEPTION.getMessage());
+            }
+            imageUrls.add(s3Service.toFileUrl(key));
         }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Memo memo = findMemoOfWriter(memoId, userId);
+
+            // 이미 등록된 이미지는 다시 추가하지 않음 (완료 요청 재시도 대비)
+            List<String> attachedUrls = memo.getImages().stream()
+                    .map(MemoImage::getImageUrl)
+                    .toList();
+            List<String> newUrls = imageUrls.stream()
+                    .filter(imageUrl -> !attachedUrls.contains(imageUrl))
+                    .toList();
+            if (attachedUrls.size() + newUrls.size() > directUploadMaxCount) {
+                throw new BadRequestException(ErrorStatus.TOO_MANY_MEMO_IMAGES_EXCEPTION.getMessage());
+            }
+            newUrls.forEach(imageUrl -> memo.addImage(imageUrl, null));
+        });
     }
 
-    // 좋아요 토글
+    // 좋아요 토글 (삭제 또는 삽입 한 번으로 상태 전환, 동시 요청에도 좋아요는 한 건만 유지)
     @Transactional
     public void toggleLike(Long memoId, Long userId) {
-        // 메모와 회원 존재 여부 체크
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 좋아요 상태 확인
-        Optional<MemoLike> existingLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId);
-
-        if (existingLike.isPresent()) {
+        if (memoLikeRepository.deleteByMemoIdAndMemberId(memoId, userId) > 0) {
             // 좋아요 취소
-            memoLikeRepository.delete(existingLike.get());
-            memoRepository.decrementLikeCount(memoId);
-        } else {
-            // 싫어요 상태 확인 (상호 배타성 보장)
-            Optional<MemoHate> existingHate = memoHateRepository.findByMemoIdAndMemberId(memoId, userId);
-            if (existingHate.isPresent()) {
-                memoHateRepository.delete(existingHate.get());
-                memoRepository.decrementHateCount(memoId);
+            counterBuffer.addMemoLike(memoId, -1);
+        } else if (memoLikeRepository.insertIfAbsent(memoId, userId) > 0) {
+            // 좋아요 추가, 싫어요 상태였다면 취소 (상호 배타성 보장)
+            counterBuffer.addMemoLike(memoId, 1);
+            if (memoHateRepository.deleteByMemoIdAndMemberId(memoId, userId) > 0) {
+                counterBuffer.addMemoHate(memoId, -1);
             }
-            // 좋아요 추가
-            MemoLike memoLike = MemoLike.builder()
-                    .memo(memo)
-                    .member(member)
-                    .build();
-            memoLikeRepository.save(memoLike);
-            memoRepository.incrementLikeCount(memoId);
+        } else if (!memoRepository.existsById(memoId)) {
+            // 삽입되지 않은 경우 메모나 회원이 없는 경우만 예외 (동시 요청으로 이미 추가된 경우는 그대로 유지)
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        } else if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
         }
+        eventPublisher.publishEvent(new ReactionChangedEvent(userId));
     }
 
-    // 싫어요 토글
+    // 싫어요 토글 (삭제 또는 삽입 한 번으로 상태 전환, 동시 요청에도 싫어요는 한 건만 유지)
     @Transactional
     public void toggleHate(Long memoId, Long userId) {
-        // 메모와 회원 존재 여부 체크
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 싫어요 상태 확인
-        Optional<MemoHate> existingHate = memoHateRepository.findByMemoIdAndMemberId(memoId, userId);
-
-        if (existingHate.isPresent()) {
+        if (memoHateRepository.deleteByMemoIdAndMemberId(memoId, userId) > 0) {
             // 싫어요 취소
-            memoHateRepository.delete(existingHate.get());
-            memoRepository.decrementHateCount(memoId);
-        } else {
-            // 좋아요 상태 확인 (상호 배타성 보장)
-            Optional<MemoLike> existingLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId);
-            if (existingLike.isPresent()) {
-                memoLikeRepository.delete(existingLike.get());
-                memoRepository.decrementLikeCount(memoId);
+            counterBuffer.addMemoHate(memoId, -1);
+        } else if (memoHateRepository.insertIfAbsent(memoId, userId) > 0) {
+            // 싫어요 추가, 좋아요 상태였다면 취소 (상호 배타성 보장)
+            counterBuffer.addMemoHate(memoId, 1);
+            if (memoLikeRepository.deleteByMemoIdAndMemberId(memoId, userId) > 0) {
+                counterBuffer.addMemoLike(memoId, -1);
             }
-            // 싫어요 추가
-            MemoHate memoHate = MemoHate.builder()
-                    .memo(memo)
-                    .member(member)
-                    .build();
-            memoHateRepository.save(memoHate);
-            memoRepository.incrementHateCount(memoId);
+        } else if (!memoRepository.existsById(memoId)) {
+            // 삽입되지 않은 경우 메모나 회원이 없는 경우만 예외 (동시 요청으로 이미 추가된 경우는 그대로 유지)
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        } else if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
         }
+        eventPublisher.publishEvent(new ReactionChangedEvent(userId));
     }
 
     // 내가 댓글 작성한 메모 목록 조회
     @Transactional(readOnly = true)
     public List<MemoListResponseDTO> getMemosWithMyComments(UserDetails userDetails) {
-        Long userId = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()))
-                .getId();
+        Long userId = memberService.getUserId(userDetails);
 
         // 차단한 사용자 목록
-        List<Long> blockedIds = memberService.getBlockedUserIds(userId);
+        LongOpenHashSet blockedIds = memberService.getBlockedUserIds(userId);
         // 내가 댓글 단 메모 목록
         List<Memo> memos = commentRepository.findDistinctMemoByMemberId(userId);
 
         // 메모 필터링
         List<Memo> filtered = memos.stream()
-                .filter(memo -> blockedIds.isEmpty() || !blockedIds.contains(memo.getMember().getId()))
+                .filter(memo -> !blockedIds.contains(memo.getMember().getId()))
                 .toList();
 
-        return filtered.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(userId, filtered);
     }
 
     // 내가 좋아요 누른 메모 목록 조회
     @Transactional(readOnly = true)
     public List<MemoListResponseDTO> getMemosILiked(UserDetails userDetails) {
-        Long userId = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()))
-                .getId();
+        Long userId = memberService.getUserId(userDetails);
 
         // 차단한 사용자 목록
-        List<Long> blockedIds = memberService.getBlockedUserIds(userId);
+        LongOpenHashSet blockedIds = memberService.getBlockedUserIds(userId);
         // 좋아요한 메모 목록
         List<Memo> likedMemos = memoLikeRepository.findMemosByMemberId(userId);
 
         // 메모 필터링
         List<Memo> filtered = likedMemos.stream()
-                .filter(memo -> blockedIds.isEmpty() || !blockedIds.contains(memo.getMember().getId()))
+                .filter(memo -> !blockedIds.contains(memo.getMember().getId()))
                 .toList();
 
-        return filtered.stream()
-                .map(this::convertToDTO)
+        return convertToDTOs(userId, filtered);
+    }
+
+    // 메모 목록 변환 (내 좋아요/싫어요 여부는 목록 단위로 한 번에 조회)
+    private List<MemoListResponseDTO> convertToDTOs(Long userId, List<Memo> memos) {
+        List<Long> memoIds = memos.stream().map(Memo::getId).toList();
+        LongOpenHashSet likedIds = reactionCache.getLikedMemoIds(userId, memoIds);
+        LongOpenHashSet hatedIds = reactionCache.getHatedMemoIds(userId, memoIds);
+
+        return memos.stream()
+                .map(memo -> convertToDTO(memo, likedIds.contains(memo.getId()), hatedIds.contains(memo.getId())))
                 .collect(Collectors.toList());
     }
 
-    // Memo -> MemoListResponseDTO 변환
-    private MemoListResponseDTO convertToDTO(Memo memo) {
+    // Memo -> MemoListResponseDTO 변환 (목록용이므로 썸네일 사용)
+    private MemoListResponseDTO convertToDTO(Memo memo, boolean myLike, boolean myHate) {
         List<String> imageUrls = memo.getImages().stream()
-                .map(MemoImage::getImageUrl)
+                .map(MemoImage::getListImageUrl)
                 .collect(Collectors.toList());
 
         return MemoListResponseDTO.builder()
@@ -693,9 +866,11 @@ public class MemoService {
                 .title(memo.getTitle())
                 .content(memo.getContent())
                 .category(memo.getCategory())
-                .likeCnt(memo.getLikeCnt())
-                .hateCnt(memo.getHateCnt())
+                .likeCnt(counterBuffer.getMemoLikeCount(memo.getId(), memo.getLikeCnt()))
+                .hateCnt(counterBuffer.getMemoHateCount(memo.getId(), memo.getHateCnt()))
                 .images(imageUrls)
+                .myLike(myLike)
+                .myHate(!myLike && myHate)
                 .build();
     }
 
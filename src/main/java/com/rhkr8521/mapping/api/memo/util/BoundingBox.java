@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.memo.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BoundingBox {
+
+    private final double minLat;
+    private final double maxLat;
+    private final double minLng;
+    private final double maxLng;
+
+    // 좌표가 박스 안에 포함되는지 여부
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -0,0 +1,168 @@
+package com.rhkr8521.mapping.api.memo.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GeoUtil {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 메모에 저장되는 셀(geohash) 정밀도 (5자리 ≈ 4.9km x 4.9km)
+    public static final int CELL_PRECISION = 5;
+
+    // 반경 조회 시 그리드 캐시로 처리할 커버링 셀 최대 개수 (초과하면 DB 조회)
+    public static final int MAX_RADIUS_TILES = 64;
+
+    // DB 반경 조회 시 geohash IN 조건으로 사용할 커버링 셀 최대 개수 (초과하면 바운딩 박스만으로 조회)
+    public static final int MAX_COVERING_CELLS = 256;
+
+    // 화면 영역(뷰포트) 조회 시 그리드 캐시로 처리할 커버링 셀 최대 개수 (초과하면 DB 집계로 조회)
+    public static final int MAX_VIEWPORT_CELLS = 512;
+
+    // 클러스터링에 사용할 geohash 정밀도 범위 (DB 집계는 저장된 셀의 앞자리로 묶으므로 CELL_PRECISION 을 넘을 수 없음)
+    private static final int MIN_CLUSTER_PRECISION = 1;
+    private static final int MAX_CLUSTER_PRECISION = CELL_PRECISION;
+
+    private GeoUtil() {
+    }
+
+    // 위도, 경도를 geohash 문자열로 변환
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // 중심 좌표와 반경(km)을 감싸는 바운딩 박스 계산
+    public static BoundingBox boundingBox(double lat, double lng, double km) {
+        double latDelta = km / KM_PER_DEGREE;
+        double minLat = Math.max(-90, lat - latDelta);
+        double maxLat = Math.min(90, lat + latDelta);
+
+        // 극지방 근처에서는 경도 범위 전체를 사용
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        if (cos <= 1e-6) {
+            return new BoundingBox(minLat, maxLat, -180, 180);
+        }
+        double lngDelta = km / (KM_PER_DEGREE * cos);
+        return new BoundingBox(minLat, maxLat, Math.max(-180, lng - lngDelta), Math.min(180, lng + lngDelta));
+    }
+
+    // 바운딩 박스를 덮는 geohash 셀 목록 (셀 개수가 maxCells 를 넘으면 빈 목록 반환)
+    public static List<String> coveringCells(BoundingBox box, int precision, int maxCells) {
+        int lngBits = (precision * 5 + 1) / 2;
+        int latBits = (precision * 5) / 2;
+        double cellLat = 180.0 / (1L << latBits);
+        double cellLng = 360.0 / (1L << lngBits);
+
+        long minLatIdx = cellIndex(box.getMinLat() + 90, cellLat, 1L << latBits);
+        long maxLatIdx = cellIndex(box.getMaxLat() + 90, cellLat, 1L << latBits);
+        long minLngIdx = cellIndex(box.getMinLng() + 180, cellLng, 1L << lngBits);
+        long maxLngIdx = cellIndex(box.getMaxLng() + 180, cellLng, 1L << lngBits);
+
+        long count = (maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1);
+        if (count > maxCells) {
+            return Collections.emptyList();
+        }
+
+        List<String> cells = new ArrayList<>((int) count);
+        for (long i = minLatIdx; i <= maxLatIdx; i++) {
+            double centerLat = -90 + (i + 0.5) * cellLat;
+            for (long j = minLngIdx; j <= maxLngIdx; j++) {
+                double centerLng = -180 + (j + 0.5) * cellLng;
+                cells.add(encode(centerLat, centerLng, precision));
+            }
+        }
+        return cells;
+    }
+
+    // 지도 줌 레벨에 맞는 클러스터 셀 정밀도 (줌 2단계마다 geohash 1자리)
+    public static int clusterPrecision(int zoom) {
+        return Math.max(MIN_CLUSTER_PRECISION, Math.min(MAX_CLUSTER_PRECISION, zoom / 2));
+    }
+
+    // 평면 근사 거리 계산용 경도 가중치 (기준 위도의 cos^2)
+    public static double lngScale(double lat) {
+        double cos = Math.cos(Math.toRadians(lat));
+        return cos * cos;
+    }
+
+    /**
+     * 평면 근사 거리 (단위: 도^2, 반경 조회 정렬 및 커서 비교용)
+     * - DB 정렬식 (m.lat - :lat) * (m.lat - :lat) + (m.lng - :lng) * (m.lng - :lng) * :lngScale 과 같은 연산 순서로 계산
+     */
+    public static double planarDistance(double lat, double lng, double pointLat, double pointLng, double lngScale) {
+        double dLat = pointLat - lat;
+        double dLng = pointLng - lng;
+        return dLat * dLat + dLng * dLng * lngScale;
+    }
+
+    /**
+     * 반경(km)을 평면 근사 거리로 변환 (DB 후보 조회용 상한, 정확한 거리 필터링은 별도로 수행)
+     * - 평면 근사 거리는 경도 차이에 중심 위도의 cos^2 을 곱하므로, 중심보다 극 쪽에 있는 점은 실제보다 멀게 계산됨
+     * - 반경이 닿는 가장 극 쪽 위도의 cos 과의 비율만큼 넓혀서 반경 안의 점이 후보에서 빠지지 않도록 함 (근사 오차용 1% 여유 포함)
+     */
+    public static double planarRadius(double lat, double km) {
+        double latDelta = km / KM_PER_DEGREE;
+        double polewardCos = Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + latDelta)));
+        if (polewardCos <= 1e-6) {
+            // 반경이 극에 닿으면 평면 근사로 거를 수 없으므로 바운딩 박스만 사용
+            return Double.MAX_VALUE;
+        }
+        double ratio = Math.max(1, Math.cos(Math.toRadians(lat)) / polewardCos);
+        double deg = latDelta * ratio * 1.01;
+        return deg * deg;
+    }
+
+    // 두 좌표 사이의 거리 계산 (단위: km, haversine)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    private static long cellIndex(double offset, double cellSize, long cellCount) {
+        long idx = (long) Math.floor(offset / cellSize);
+        return Math.min(Math.max(idx, 0), cellCount - 1);
+    }
+}
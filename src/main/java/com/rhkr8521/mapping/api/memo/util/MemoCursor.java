@@ -0,0 +1,49 @@
+package com.rhkr8521.mapping.api.memo.util;
+
+import com.rhkr8521.mapping.common.exception.BadRequestException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 반경 조회 키셋 페이지네이션 커서 (평면 근사 거리 + 메모 id)
+ * - 거리는 비트 단위로 그대로 인코딩하여 DB 정렬 값과 정확히 비교되도록 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemoCursor {
+
+    // 첫 페이지 조회용 커서 (모든 메모가 이 커서 이후)
+    public static final MemoCursor FIRST = new MemoCursor(-1, 0L);
+
+    private final double distance;
+    private final long id;
+
+    // 해당 거리, id 의 메모가 이 커서 이후에 위치하는지 여부
+    public boolean isBefore(double otherDistance, long otherId) {
+        return otherDistance > distance || (otherDistance == distance && otherId > id);
+    }
+
+    public String encode() {
+        String raw = Long.toHexString(Double.doubleToLongBits(distance)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(':');
+            double distance = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, idx), 16));
+            long id = Long.parseLong(raw.substring(idx + 1));
+            return new MemoCursor(distance, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -10,7 +10,9 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "comment_report")
+@Table(name = "comment_report", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_report_comment_user", columnNames = {"comment_id", "user_id"})
+})
 @Builder(toBuilder = true)
 public class CommentReport extends BaseTimeEntity {
 
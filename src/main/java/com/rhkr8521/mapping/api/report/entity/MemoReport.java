@@ -10,7 +10,9 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "memo_report")
+@Table(name = "memo_report", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_memo_report_memo_user", columnNames = {"memo_id", "user_id"})
+})
 @Builder(toBuilder = true)
 public class MemoReport extends BaseTimeEntity {
 
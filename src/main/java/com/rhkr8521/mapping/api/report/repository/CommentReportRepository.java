@@ -1,14 +1,40 @@
 package com.rhkr8521.mapping.api.report.repository;
 
-import com.rhkr8521.mapping.api.comment.entity.Comment;
-import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.report.entity.CommentReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long> {
 
-    boolean existsByCommentAndMember(Comment comment, Member member);
-    void deleteAllByCommentId(Long commentId);
+    // 댓글 신고 추가 (이미 신고했거나 댓글/회원이 없으면 0 반환, (comment_id, user_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달
+    @Modifying
+    @Query(value = "INSERT INTO comment_report (comment_id, user_id, report_reason, created_at, updated_at) " +
+            "SELECT c.comment_id, u.user_id, :reportReason, NOW(6), NOW(6) FROM comment c JOIN member u ON u.user_id = :memberId " +
+            "WHERE c.comment_id = :commentId " +
+            "ON DUPLICATE KEY UPDATE report_id = report_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("memberId") Long memberId,
+                       @Param("reportReason") String reportReason);
+
+    // 메모에 달린 댓글의 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentReport cr WHERE cr.comment.id IN (SELECT c.id FROM Comment c WHERE c.memo.id IN :memoIds)")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+
+    // 댓글 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentReport cr WHERE cr.comment.id IN :commentIds")
+    int deleteAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 회원이 작성한 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CommentReport cr WHERE cr.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
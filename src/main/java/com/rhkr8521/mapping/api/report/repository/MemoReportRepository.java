@@ -1,14 +1,35 @@
 package com.rhkr8521.mapping.api.report.repository;
 
-import com.rhkr8521.mapping.api.member.entity.Member;
-import com.rhkr8521.mapping.api.memo.entity.Memo;
 import com.rhkr8521.mapping.api.report.entity.MemoReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface MemoReportRepository extends JpaRepository<MemoReport, Long> {
 
-    boolean existsByMemoAndMember(Memo memo, Member member);
-    void deleteAllByMemoId(Long memoId);
+    // 메모 신고 추가 (이미 신고했거나 메모/회원이 없으면 0 반환, (memo_id, user_id) 유니크 키로 중복 방지)
+    // - 중복 키만 무시하고 그 밖의 제약조건 위반은 예외로 전달
+    @Modifying
+    @Query(value = "INSERT INTO memo_report (memo_id, user_id, report_reason, created_at, updated_at) " +
+            "SELECT m.memo_id, u.user_id, :reportReason, NOW(6), NOW(6) FROM memo m JOIN member u ON u.user_id = :memberId " +
+            "WHERE m.memo_id = :memoId " +
+            "ON DUPLICATE KEY UPDATE report_id = report_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memoId") Long memoId, @Param("memberId") Long memberId,
+                       @Param("reportReason") String reportReason);
+
+    // 메모 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoReport mr WHERE mr.memo.id IN :memoIds")
+    int deleteAllByMemoIds(@Param("memoIds") Collection<Long> memoIds);
+
+    // 회원이 작성한 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MemoReport mr WHERE mr.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
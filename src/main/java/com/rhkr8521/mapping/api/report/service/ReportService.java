@@ -1,16 +1,11 @@
 package com.rhkr8521.mapping.api.report.service;
 
-import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
-import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.api.member.service.MemberService;
-import com.rhkr8521.mapping.api.memo.entity.Memo;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
 import com.rhkr8521.mapping.api.report.dto.CommentReportRequestDTO;
 import com.rhkr8521.mapping.api.report.dto.MemoReportRequestDTO;
-import com.rhkr8521.mapping.api.report.entity.CommentReport;
-import com.rhkr8521.mapping.api.report.entity.MemoReport;
 import com.rhkr8521.mapping.api.report.repository.CommentReportRepository;
 import com.rhkr8521.mapping.api.report.repository.MemoReportRepository;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
@@ -41,28 +36,21 @@ public class ReportService {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        // 신고할 메모 조회
-        Memo memo = memoRepository.findById(reportRequest.getMemoId())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 신고하는 회원 조회
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 이미 신고한 내역이 있는지 체크
-        if (memoReportRepository.existsByMemoAndMember(memo, member)) {
+        // 신고 추가 (삽입 한 번으로 처리, 동시 요청에도 신고는 한 건만 유지)
+        Long userId = memberService.getUserId(userDetails);
+        Long memoId = reportRequest.getMemoId();
+        if (memoReportRepository.insertIfAbsent(memoId, userId, reportRequest.getReportReason().name()) == 0) {
+            // 삽입되지 않은 경우 메모나 회원이 없는지, 이미 신고했는지 구분
+            if (!memoRepository.existsById(memoId)) {
+                throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+            }
+            if (!memberRepository.existsById(userId)) {
+                throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+            }
             throw new BadRequestException(ErrorStatus.ALREADY_REPORT_MEMO_EXCEPTION.getMessage());
         }
 
-        MemoReport memoReport = MemoReport.builder()
-                .memo(memo)
-                .member(member)
-                .reportReason(reportRequest.getReportReason())
-                .build();
-
-        memoReportRepository.save(memoReport);
-        slackNotificationService.sendReportMessage("메모", memo.getId(), String.valueOf(reportRequest.getReportReason().getDescription()));
+        slackNotificationService.sendReportMessage("메모", memoId, String.valueOf(reportRequest.getReportReason().getDescription()));
     }
 
     // 댓글 신고 기능
@@ -72,27 +60,20 @@ public class ReportService {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        // 신고할 메모 조회
-        Comment comment = commentRepository.findById(commentReportRequestDTO.getCommentId())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 신고하는 회원 조회
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 이미 신고한 내역이 있는지 체크
-        if (commentReportRepository.existsByCommentAndMember(comment, member)) {
+        // 신고 추가 (삽입 한 번으로 처리, 동시 요청에도 신고는 한 건만 유지)
+        Long userId = memberService.getUserId(userDetails);
+        Long commentId = commentReportRequestDTO.getCommentId();
+        if (commentReportRepository.insertIfAbsent(commentId, userId, commentReportRequestDTO.getReportReason().name()) == 0) {
+            // 삽입되지 않은 경우 댓글이나 회원이 없는지, 이미 신고했는지 구분
+            if (!commentRepository.existsById(commentId)) {
+                throw new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage());
+            }
+            if (!memberRepository.existsById(userId)) {
+                throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+            }
             throw new BadRequestException(ErrorStatus.ALREADY_REPORT_MEMO_EXCEPTION.getMessage());
         }
 
-        CommentReport commentReport = CommentReport.builder()
-                .comment(comment)
-                .member(member)
-                .reportReason(commentReportRequestDTO.getReportReason())
-                .build();
-
-        commentReportRepository.save(commentReport);
-        slackNotificationService.sendReportMessage("댓글", comment.getId(), String.valueOf(commentReportRequestDTO.getReportReason().getDescription()));
+        slackNotificationService.sendReportMessage("댓글", commentId, String.valueOf(commentReportRequestDTO.getReportReason().getDescription()));
     }
 }
@@ -0,0 +1,68 @@
+package com.rhkr8521.mapping.api.watchdog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 텍스트 내용 해시(SHA-256) -> 비속어 검사 결과 캐시
+ * - 같은 제목/내용/댓글을 다시 검사할 때 외부 API 호출 생략
+ * - 원문 대신 해시를 키로 사용하여 긴 텍스트도 고정 크기로 보관
+ * - 최대 크기와 TTL 로 제한 (만료된 항목도 조회 여부와 관계없이 제거)
+ */
+@Component
+public class ProfanityResultCache {
+
+    private final Cache<String, ProfanityResponseDTO> entries;
+
+    public ProfanityResultCache(@Value("${watchdog.profanity.cache.max-size:10000}") long maxSize,
+                                @Value("${watchdog.profanity.cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<ProfanityResponseDTO> get(String text) {
+        ProfanityResponseDTO cached = entries.getIfPresent(hash(text));
+        return cached == null ? Optional.empty() : Optional.of(copyOf(cached));
+    }
+
+    public void put(String text, ProfanityResponseDTO response) {
+        if (response == null) {
+            return;
+        }
+        entries.put(hash(text), copyOf(response));
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(String.valueOf(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 제공되므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 호출자가 결과를 수정해도 캐시된 값에 영향이 없도록 복사본 사용
+    private static ProfanityResponseDTO copyOf(ProfanityResponseDTO source) {
+        ProfanityResponseDTO copy = new ProfanityResponseDTO();
+        copy.setText(source.getText());
+        copy.setCensoredText(source.getCensoredText());
+        copy.setContainsProfanity(source.isContainsProfanity());
+        copy.setDetectedWords(source.getDetectedWords() == null ? null : new ArrayList<>(source.getDetectedWords()));
+        return copy;
+    }
+}
@@ -2,8 +2,16 @@ package com.rhkr8521.mapping.api.watchdog.repository;
 
 import com.rhkr8521.mapping.api.watchdog.entity.ProfanityDetect;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProfanityDetectRepository extends JpaRepository<ProfanityDetect, Long> {
+
+    // 회원의 비속어 감지 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ProfanityDetect pd WHERE pd.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,84 @@
+package com.rhkr8521.mapping.api.watchdog.service;
+
+import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
+import com.rhkr8521.mapping.api.watchdog.util.AhoCorasickMatcher;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로세스 내 사전 기반 비속어 필터
+ * - 외부 API 가 느리거나 장애일 때 대체 검사 (정상일 때의 최종 판정은 외부 API 결과)
+ */
+@Slf4j
+@Component
+public class LocalProfanityFilter {
+
+    // 한 줄에 한 단어, '#' 으로 시작하는 줄은 주석, '!' 로 시작하는 줄은 허용 단어
+    @Value("${watchdog.profanity.dictionary:classpath:watchdog/profanity-words.txt}")
+    private String dictionaryLocation;
+
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of());
+
+    @PostConstruct
+    public void init() {
+        Resource resource = new DefaultResourceLoader().getResource(dictionaryLocation);
+        if (!resource.exists()) {
+            log.warn("비속어 사전 파일이 없어 로컬 필터를 비활성화합니다: {}", dictionaryLocation);
+            return;
+        }
+
+        List<String> words = new ArrayList<>();
+        List<String> allowedWords = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.strip();
+                if (word.isEmpty() || word.startsWith("#")) {
+                    continue;
+                }
+                if (word.startsWith("!")) {
+                    allowedWords.add(word.substring(1).strip());
+                } else {
+                    words.add(word);
+                }
+            }
+        } catch (Exception e) {
+            // 사전 적재 실패 시 외부 API 검사만 사용
+            log.error("비속어 사전 적재 실패: {}", e.getMessage());
+            return;
+        }
+
+        matcher = AhoCorasickMatcher.of(words, allowedWords);
+        log.info("비속어 사전 적재 완료: {}단어, 허용 단어 {}개", words.size(), allowedWords.size());
+    }
+
+    // 외부 API 응답과 같은 형태로 검사 결과 반환
+    public ProfanityResponseDTO check(String text) {
+        List<AhoCorasickMatcher.Match> matches = matcher.findAll(text);
+
+        Set<String> detectedWords = new LinkedHashSet<>();
+        for (AhoCorasickMatcher.Match match : matches) {
+            detectedWords.add(match.getWord());
+        }
+
+        ProfanityResponseDTO response = new ProfanityResponseDTO();
+        response.setText(text);
+        response.setContainsProfanity(!matches.isEmpty());
+        response.setDetectedWords(new ArrayList<>(detectedWords));
+        response.setCensoredText(text == null ? null : AhoCorasickMatcher.censor(text, matches));
+        return response;
+    }
+}
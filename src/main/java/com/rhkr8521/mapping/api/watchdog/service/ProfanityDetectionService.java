@@ -1,9 +1,12 @@
 package com.rhkr8521.mapping.api.watchdog.service;
 
 import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.watchdog.cache.ProfanityResultCache;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.entity.ProfanityDetect;
 import com.rhkr8521.mapping.api.watchdog.repository.ProfanityDetectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
@@ -11,27 +14,146 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
 @Service
 public class ProfanityDetectionService {
 
     private final ProfanityDetectRepository profanityDetectRepository;
+    private final LocalProfanityFilter localProfanityFilter;
+    private final ProfanityResultCache profanityResultCache;
 
     @Value("${watchdog.profanity.url}")
     private String profanityUrl;
 
+    // 외부 API 호출 실패 후 이 시간 동안은 호출하지 않고 로컬 필터 결과만 사용
+    @Value("${watchdog.profanity.failure-cooldown-seconds:30}")
+    private long failureCooldownSeconds;
+
+    // 여러 텍스트 동시 검증 시 전체 마감 시간
+    @Value("${watchdog.profanity.batch-deadline-millis:2000}")
+    private long batchDeadlineMillis;
+
     private final RestTemplate restTemplate;
+    private final ExecutorService checkExecutor;
+
+    private volatile long remoteUnavailableUntil = 0;
 
     // 생성자에서 RestTemplate과 ProfanityDetectRepository 모두 주입받음
-    public ProfanityDetectionService(RestTemplateBuilder builder, ProfanityDetectRepository profanityDetectRepository) {
-        this.restTemplate = builder.build();
+    // 외부 API 가 느려도 요청 지연이 길어지지 않도록 연결/응답 타임아웃 설정
+    public ProfanityDetectionService(RestTemplateBuilder builder,
+                                     ProfanityDetectRepository profanityDetectRepository,
+                                     LocalProfanityFilter localProfanityFilter,
+                                     ProfanityResultCache profanityResultCache,
+                                     @Value("${watchdog.profanity.connect-timeout-millis:500}") long connectTimeoutMillis,
+                                     @Value("${watchdog.profanity.read-timeout-millis:1500}") long readTimeoutMillis,
+                                     @Value("${watchdog.profanity.check-threads:8}") int checkThreads,
+                                     @Value("${watchdog.profanity.check-queue-capacity:100}") int checkQueueCapacity) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMillis))
+                .build();
         this.profanityDetectRepository = profanityDetectRepository;
+        this.localProfanityFilter = localProfanityFilter;
+        this.profanityResultCache = profanityResultCache;
+
+        // 검증 요청이 몰려도 스레드와 대기열이 무한히 늘어나지 않도록 제한
+        AtomicInteger threadCount = new AtomicInteger();
+        this.checkExecutor = new ThreadPoolExecutor(checkThreads, checkThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(checkQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "profanity-check-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
-    // 외부 API에 텍스트를 전달하여 비속어 검증 결과를 반환
+    @PreDestroy
+    public void shutdown() {
+        checkExecutor.shutdownNow();
+    }
+
+    /**
+     * 텍스트 비속어 검증 결과 반환
+     * - 같은 텍스트의 이전 검사 결과가 캐시에 있으면 재사용
+     * - 최종 판정은 외부 API 결과 (로컬 사전은 오탐이 있을 수 있으므로 단독으로 판정하지 않음)
+     * - 외부 API 가 실패하거나 대기 중일 때만 로컬 필터 결과로 대체
+     */
     public ProfanityResponseDTO checkText(String text) {
+        Optional<ProfanityResponseDTO> cached = profanityResultCache.get(text);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (System.currentTimeMillis() < remoteUnavailableUntil) {
+            return localProfanityFilter.check(text);
+        }
+
+        try {
+            ProfanityResponseDTO response = requestCheck(text);
+            if (response == null) {
+                return localProfanityFilter.check(text);
+            }
+            profanityResultCache.put(text, response);
+            return response;
+        } catch (Exception e) {
+            // 외부 API 장애가 게시글/댓글 작성 실패로 이어지지 않도록 로컬 필터 결과 사용
+            remoteUnavailableUntil = System.currentTimeMillis() + failureCooldownSeconds * 1000;
+            log.warn("비속어 검사 API 호출 실패, 로컬 필터로 대체합니다: {}", e.getMessage());
+            return localProfanityFilter.check(text);
+        }
+    }
+
+    /**
+     * 여러 텍스트(제목, 내용 등)를 동시에 검증하여 입력 순서대로 결과 반환
+     * - 전체 소요 시간은 가장 느린 한 건 수준이며, batchDeadlineMillis 를 넘지 않음
+     * - 마감 시간 내 응답이 없거나 대기열이 가득 찬 텍스트는 로컬 필터 결과 사용
+     * - DB 를 사용하지 않으므로 트랜잭션 시작 전에 호출하여 검증 중 커넥션을 점유하지 않도록 함
+     */
+    public List<ProfanityResponseDTO> checkTexts(List<String> texts) {
+        List<CompletableFuture<ProfanityResponseDTO>> futures = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> checkText(text), checkExecutor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(localProfanityFilter.check(text)));
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + batchDeadlineMillis;
+        List<ProfanityResponseDTO> responses = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            CompletableFuture<ProfanityResponseDTO> future = futures.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                responses.add(future.get(remaining, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                responses.add(localProfanityFilter.check(texts.get(i)));
+            } catch (Exception e) {
+                future.cancel(true);
+                log.warn("비속어 검사 지연 또는 실패, 로컬 필터로 대체합니다: {}", e.toString());
+                responses.add(localProfanityFilter.check(texts.get(i)));
+            }
+        }
+        return responses;
+    }
+
+    // 외부 API에 텍스트를 전달하여 비속어 검증 결과를 반환
+    private ProfanityResponseDTO requestCheck(String text) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -62,6 +184,16 @@ public class ProfanityDetectionService {
         profanityDetectRepository.save(profanityDetect);
     }
 
+    // 미리 검증한 결과 중 비속어가 포함된 텍스트만 DB 저장
+    @Transactional
+    public void saveDetectedProfanity(Member member, List<String> texts, List<ProfanityResponseDTO> responses) {
+        for (int i = 0; i < texts.size(); i++) {
+            if (responses.get(i).isContainsProfanity()) {
+                saveProfanityDetect(member, texts.get(i), responses.get(i));
+            }
+        }
+    }
+
     // 멤버 정보를 포함해 텍스트 검증 후, 응답이 true일 경우 DB 저장까지 처리하는 메서드
     @Transactional
     public ProfanityResponseDTO checkTextAndSave(Member member, String text) {
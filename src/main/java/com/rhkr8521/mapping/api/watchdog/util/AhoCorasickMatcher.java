@@ -0,0 +1,207 @@
+package com.rhkr8521.mapping.api.watchdog.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 사전 기반 다중 패턴 문자열 매처 (Aho-Corasick)
+ * - 사전 단어 수와 무관하게 텍스트 길이에 비례하는 시간으로 모든 단어 탐색
+ * - 대소문자와 글자 사이의 특수문자는 무시하고 비교 (예: "시.발", "S-H-I-T")
+ * - 공백은 단어 경계로 보고 공백을 사이에 둔 글자는 이어서 비교하지 않음 (예: "언니 미안해" 의 "니 미")
+ * - 허용 단어에 포함된 매칭은 제외 (예: 허용 단어 "시발점" 안의 "시발")
+ * - 생성 후 변경하지 않는 읽기 전용 객체로, 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> children = new ArrayList<>();
+    private final List<Integer> fail = new ArrayList<>();
+    // 해당 노드에서 끝나는 단어 (없으면 null)
+    private final List<String> words = new ArrayList<>();
+    // 해당 노드에서 끝나는 단어가 허용 단어인지 여부
+    private final List<Boolean> allowed = new ArrayList<>();
+    // fail 링크를 따라가며 처음 만나는 단어 노드 (없으면 -1)
+    private final List<Integer> outputLink = new ArrayList<>();
+    private final List<Integer> depth = new ArrayList<>();
+
+    private AhoCorasickMatcher() {
+        newNode(0);
+    }
+
+    public static AhoCorasickMatcher of(Collection<String> dictionary) {
+        return of(dictionary, List.of());
+    }
+
+    // allowedWords: 사전 단어를 포함하지만 비속어가 아닌 단어 (예: "시발점", "시발역")
+    public static AhoCorasickMatcher of(Collection<String> dictionary, Collection<String> allowedWords) {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher();
+        for (String word : dictionary) {
+            matcher.insert(word, false);
+        }
+        for (String word : allowedWords) {
+            matcher.insert(word, true);
+        }
+        matcher.buildLinks();
+        return matcher;
+    }
+
+    public boolean isEmpty() {
+        return children.get(ROOT).isEmpty();
+    }
+
+    /**
+     * 텍스트에서 사전 단어가 등장하는 모든 위치 탐색
+     * - 반환되는 위치는 원본 텍스트 기준 [start, end) 범위
+     */
+    public List<Match> findAll(String text) {
+        List<Match> matches = new ArrayList<>();
+        if (text == null || text.isEmpty() || isEmpty()) {
+            return matches;
+        }
+        List<Match> allowedMatches = new ArrayList<>();
+
+        // 정규화된 문자 인덱스 -> 원본 텍스트 인덱스
+        int[] originalIndex = new int[text.length()];
+        int normalizedLength = 0;
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // 공백에서 매칭을 끊고, 글자 사이의 특수문자만 건너뜀
+            if (Character.isWhitespace(c)) {
+                state = ROOT;
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            originalIndex[normalizedLength++] = i;
+            state = next(state, normalize(c));
+
+            int node = words.get(state) != null ? state : outputLink.get(state);
+            while (node != -1) {
+                int start = originalIndex[normalizedLength - depth.get(node)];
+                Match match = new Match(start, i + 1, words.get(node));
+                (allowed.get(node) ? allowedMatches : matches).add(match);
+                node = outputLink.get(node);
+            }
+        }
+
+        if (!allowedMatches.isEmpty()) {
+            matches.removeIf(match -> allowedMatches.stream().anyMatch(allowedMatch -> allowedMatch.contains(match)));
+        }
+        return matches;
+    }
+
+    // 매칭된 범위의 글자를 '*' 로 가림 (공백, 특수문자는 유지)
+    public static String censor(String text, List<Match> matches) {
+        if (matches.isEmpty()) {
+            return text;
+        }
+        char[] chars = text.toCharArray();
+        for (Match match : matches) {
+            for (int i = match.getStart(); i < match.getEnd(); i++) {
+                if (Character.isLetterOrDigit(chars[i])) {
+                    chars[i] = '*';
+                }
+            }
+        }
+        return new String(chars);
+    }
+
+    private void insert(String word, boolean allowedWord) {
+        if (word == null) {
+            return;
+        }
+
+        int state = ROOT;
+        int length = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            length++;
+            Integer child = children.get(state).get(normalize(c));
+            if (child == null) {
+                child = newNode(length);
+                children.get(state).put(normalize(c), child);
+            }
+            state = child;
+        }
+        if (state != ROOT) {
+            words.set(state, word.strip());
+            allowed.set(state, allowedWord);
+        }
+    }
+
+    // BFS 로 fail 링크와 출력 링크 계산
+    private void buildLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(ROOT).values()) {
+            fail.set(child, ROOT);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> entry : children.get(state).entrySet()) {
+                char c = entry.getKey();
+                int child = entry.getValue();
+
+                int f = fail.get(state);
+                while (f != ROOT && !children.get(f).containsKey(c)) {
+                    f = fail.get(f);
+                }
+                int target = children.get(f).getOrDefault(c, ROOT);
+                fail.set(child, target == child ? ROOT : target);
+
+                int failState = fail.get(child);
+                outputLink.set(child, words.get(failState) != null ? failState : outputLink.get(failState));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        while (state != ROOT && !children.get(state).containsKey(c)) {
+            state = fail.get(state);
+        }
+        return children.get(state).getOrDefault(c, ROOT);
+    }
+
+    private int newNode(int nodeDepth) {
+        children.add(new HashMap<>());
+        fail.add(ROOT);
+        words.add(null);
+        allowed.add(false);
+        outputLink.add(-1);
+        depth.add(nodeDepth);
+        return children.size() - 1;
+    }
+
+    private static char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Match {
+        private final int start;
+        private final int end;
+        private final String word;
+
+        boolean contains(Match other) {
+            return start <= other.start && other.end <= end;
+        }
+    }
+}
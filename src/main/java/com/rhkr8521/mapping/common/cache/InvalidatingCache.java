@@ -0,0 +1,54 @@
+package com.rhkr8521.mapping.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 커밋 이후 무효화되는 프로세스 로컬 캐시 (Caffeine)
+ * - 최대 크기를 넘으면 오래 사용하지 않은 항목부터 제거, TTL 이 지나면 다시 적재
+ * - 무효화 후 invalidationWindow 동안 적재한 값은 반환만 하고 캐시하지 않음
+ *   (적재 중에 무효화된 경우, 복제본이 아직 변경을 반영하지 못한 경우 오래된 값이 TTL 동안 남지 않도록)
+ * - 다른 인스턴스의 변경은 TTL 만료 후 반영
+ */
+public final class InvalidatingCache<K, V> {
+
+    private final Cache<K, V> values;
+    // 키별 최근 무효화 시각
+    private final Cache<K, Long> invalidatedAt;
+
+    public InvalidatingCache(long maxSize, Duration ttl, Duration invalidationWindow) {
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(invalidationWindow)
+                .build();
+    }
+
+    // 캐시된 값 조회 (없으면 loader 로 적재, loader 가 null 을 반환하면 캐시하지 않음)
+    public V get(K key, Function<K, V> loader) {
+        V cached = values.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        // 무효화 기록 확인과 저장을 한 번에 수행하여 invalidate 와 엇갈려도 오래된 값이 남지 않도록 함
+        values.asMap().compute(key, (k, current) -> invalidatedAt.getIfPresent(k) == null ? loaded : null);
+        return loaded;
+    }
+
+    // 무효화 시각을 먼저 기록한 뒤 제거 (진행 중인 적재가 이후에 저장하지 못하도록)
+    public void invalidate(K key) {
+        invalidatedAt.put(key, System.currentTimeMillis());
+        values.invalidate(key);
+    }
+}
@@ -8,6 +8,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
@@ -43,4 +44,23 @@ public class MinioConfig {
                 .serviceConfiguration(s3Configuration)
                 .build();
     }
+
+    // 클라이언트가 저장소에 직접 업로드할 수 있도록 서명된 URL 발급 (S3Client 와 같은 path-style 주소 사용)
+    @Bean
+    public S3Presigner s3Presigner() {
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
+
+        return S3Presigner.builder()
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .region(Region.of(region))
+                .endpointOverride(URI.create(minioEndpoint))
+                .serviceConfiguration(s3Configuration)
+                .build();
+    }
 }
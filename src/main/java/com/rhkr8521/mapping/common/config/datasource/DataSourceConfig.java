@@ -6,6 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -17,7 +20,9 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -27,7 +32,8 @@ public class DataSourceConfig {
 
     private final Environment env;
 
-    // (1) Master DataSource
+    // (1) Master DataSource (스키마 마이그레이션도 Master 에 직접 실행)
+    @FlywayDataSource
     @Bean(name = "masterDataSource")
     public DataSource masterDataSource(
             @Value("${spring.datasource.master.driver-class-name}") String driverClassName,
@@ -44,39 +50,62 @@ public class DataSourceConfig {
         config.setPassword(password);
         config.setPoolName(poolName);
         config.setMaximumPoolSize(maxPoolSize);
+        // UPDATE 건수를 일치한 행이 아닌 실제 변경된 행 수로 반환
+        // - INSERT ... ON DUPLICATE KEY UPDATE 가 중복 키일 때 0 을 반환해야 삽입 여부를 구분할 수 있음 (드라이버 기본값은 일치한 행 수)
+        config.addDataSourceProperty("useAffectedRows", "true");
         return new HikariDataSource(config);
     }
 
-    // (2) Slave DataSource
-    @Bean(name = "slaveDataSource")
-    public DataSource slaveDataSource(
-            @Value("${spring.datasource.slave.driver-class-name}") String driverClassName,
-            @Value("${spring.datasource.slave.url}") String jdbcUrl,
-            @Value("${spring.datasource.slave.username}") String username,
-            @Value("${spring.datasource.slave.password}") String password,
-            @Value("${spring.datasource.slave.hikari.pool-name}") String poolName,
-            @Value("${spring.datasource.slave.hikari.maximum-pool-size}") int maxPoolSize
+    // (2) 읽기 전용 복제본 (spring.datasource.replicas[n], 없으면 기존 spring.datasource.slave 하나를 복제본으로 사용)
+    @Bean
+    public ReadReplicaBalancer readReplicaBalancer(
+            @Value("${spring.datasource.replica-selection:weighted-round-robin}") String selection,
+            @Value("${spring.datasource.replica-health.interval-millis:5000}") long probeIntervalMillis,
+            @Value("${spring.datasource.replica-health.timeout-seconds:2}") int probeTimeoutSeconds,
+            @Value("${spring.datasource.replica-health.failure-threshold:2}") int failureThreshold,
+            @Value("${spring.datasource.replica-health.max-lag-seconds:5}") long maxLagSeconds
     ) {
-        HikariConfig config = new HikariConfig();
-        config.setDriverClassName(driverClassName);
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
-        config.setPoolName(poolName);
-        config.setMaximumPoolSize(maxPoolSize);
-        return new HikariDataSource(config);
+        Binder binder = Binder.get(env);
+        List<ReplicaProperties> replicaProperties = binder
+                .bind("spring.datasource.replicas", Bindable.listOf(ReplicaProperties.class))
+                .orElseGet(() -> binder.bind("spring.datasource.slave", ReplicaProperties.class)
+                        .map(List::of)
+                        .orElse(List.of()));
+
+        List<ReadReplicaBalancer.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReplicaProperties properties = replicaProperties.get(i);
+            String poolName = properties.getHikari().getPoolName() != null
+                    ? properties.getHikari().getPoolName()
+                    : "replica-" + i;
+
+            HikariConfig config = new HikariConfig();
+            config.setDriverClassName(properties.getDriverClassName());
+            config.setJdbcUrl(properties.getUrl());
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setPoolName(poolName);
+            config.setMaximumPoolSize(properties.getHikari().getMaximumPoolSize());
+            config.setConnectionTimeout(properties.getHikari().getConnectionTimeout());
+            // 기동 시 복제본이 내려가 있어도 애플리케이션은 뜨도록 (상태 검사에서 제외 처리)
+            config.setInitializationFailTimeout(-1);
+
+            replicas.add(new ReadReplicaBalancer.Replica(poolName, new HikariDataSource(config), properties.getWeight()));
+        }
+
+        return new ReadReplicaBalancer(replicas, ReadReplicaBalancer.Strategy.from(selection),
+                probeIntervalMillis, probeTimeoutSeconds, failureThreshold, maxLagSeconds);
     }
 
-    // ReplicationRoutingDataSource 설정
+    // ReplicationRoutingDataSource 설정 (쓰기는 Master, 읽기는 복제본 선택기가 고른 복제본)
     @Bean(name = "routingDataSource")
     public DataSource routingDataSource(
             @Qualifier("masterDataSource") DataSource masterDataSource,
-            @Qualifier("slaveDataSource") DataSource slaveDataSource
+            ReadReplicaBalancer readReplicaBalancer
     ) {
-        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(readReplicaBalancer);
         Map<Object, Object> targetDataSources = new HashMap<>();
         targetDataSources.put(DataSourceType.MASTER, masterDataSource);
-        targetDataSources.put(DataSourceType.SLAVE, slaveDataSource);
 
         routingDataSource.setDefaultTargetDataSource(masterDataSource);
         routingDataSource.setTargetDataSources(targetDataSources);
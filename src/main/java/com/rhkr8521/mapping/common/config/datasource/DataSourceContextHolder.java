@@ -1,17 +1,55 @@
 package com.rhkr8521.mapping.common.config.datasource;
 
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 요청 단위 라우팅 상태 (ReadYourWritesFilter 가 요청마다 설정)
+ * - 최근에 쓰기를 한 사용자의 요청이면 읽기 전용 트랜잭션도 MASTER 에서 조회
+ * - 요청 중 쓰기 트랜잭션이 커밋되면 등록된 콜백으로 응답에 최근 쓰기 시각을 남기고, 이후 조회도 MASTER 로 고정
+ */
 public class DataSourceContextHolder {
-    private static final ThreadLocal<DataSourceType> contextHolder = new ThreadLocal<>();
+    private static final ThreadLocal<RequestContext> contextHolder = new ThreadLocal<>();
+
+    public static void set(boolean pinnedToMaster, Runnable onWriteCommitted) {
+        contextHolder.set(new RequestContext(pinnedToMaster, onWriteCommitted));
+    }
 
-    public static void set(DataSourceType type) {
-        contextHolder.set(type);
+    public static boolean isPinnedToMaster() {
+        RequestContext context = contextHolder.get();
+        return context != null && context.pinnedToMaster;
     }
 
-    public static DataSourceType get() {
-        return contextHolder.get();
+    // 현재 쓰기 트랜잭션 커밋 시 최근 쓰기로 표시 (요청 밖이거나 이미 표시한 경우 무시)
+    public static void registerWrite() {
+        RequestContext context = contextHolder.get();
+        if (context == null || context.writeCommitted || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!context.writeCommitted) {
+                    context.writeCommitted = true;
+                    context.pinnedToMaster = true;
+                    context.onWriteCommitted.run();
+                }
+            }
+        });
     }
 
     public static void clear() {
         contextHolder.remove();
     }
-}
\ No newline at end of file
+
+    private static final class RequestContext {
+        private final Runnable onWriteCommitted;
+        private boolean pinnedToMaster;
+        private boolean writeCommitted;
+
+        private RequestContext(boolean pinnedToMaster, Runnable onWriteCommitted) {
+            this.pinnedToMaster = pinnedToMaster;
+            this.onWriteCommitted = onWriteCommitted;
+        }
+    }
+}
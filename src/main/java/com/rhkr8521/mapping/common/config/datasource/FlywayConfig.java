@@ -0,0 +1,38 @@
+package com.rhkr8521.mapping.common.config.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션 설정 (classpath:db/migration)
+ * - 테이블 생성은 기존처럼 Hibernate ddl-auto 가 담당하고, 제약조건/인덱스처럼 정리가 필요한 변경만 버전 관리
+ * - 테이블이 만들어진 뒤에 적용되도록 EntityManagerFactory 초기화가 끝난 다음 마이그레이션 실행
+ * - 이력 테이블이 없는 기존 DB 는 0 버전으로 기준을 잡고 V1 부터 적용
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    // 기본 초기화 시점(EntityManagerFactory 생성 전)에는 실행하지 않음
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    // 모든 싱글톤 빈 초기화 이후(ddl-auto 반영 후), 요청을 받기 전에 마이그레이션 실행
+    @Bean
+    public SmartInitializingSingleton flywayMigration(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
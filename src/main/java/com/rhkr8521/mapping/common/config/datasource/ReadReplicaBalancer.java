@@ -0,0 +1,297 @@
+package com.rhkr8521.mapping.common.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 복제본 선택기
+ * - 정상 상태인 복제본 중에서 가중치 라운드로빈 또는 사용 중인 커넥션이 가장 적은 복제본 선택
+ * - 별도 스레드에서 주기적으로 커넥션을 검사하여 연속으로 실패한 복제본은 제외, 다시 성공하면 복귀
+ * - 같은 검사에서 복제 지연(Seconds_Behind_Master)을 측정하여 허용치를 넘거나 복제가 멈춘 복제본도 제외
+ * - 모든 복제본이 제외되면 null 을 반환하여 Master 로 읽도록 함
+ * - 복제본별 커넥션 풀 지표(hikaricp.*)와 상태 지표(datasource.replica.*)를 등록
+ */
+@Slf4j
+public class ReadReplicaBalancer implements MeterBinder {
+
+    public enum Strategy {
+        WEIGHTED_ROUND_ROBIN, LEAST_OUTSTANDING;
+
+        // 설정값(weighted-round-robin, least-outstanding) -> Strategy
+        public static Strategy from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    // 복제 상태 조회 권한(REPLICATION CLIENT / SLAVE MONITOR)이 없을 때의 오류 코드
+    private static final int ER_SPECIFIC_ACCESS_DENIED = 1227;
+
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final long probeIntervalMillis;
+    private final int probeTimeoutSeconds;
+    private final int failureThreshold;
+    private final long maxLagSeconds;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ScheduledExecutorService probeExecutor;
+
+    public ReadReplicaBalancer(List<Replica> replicas, Strategy strategy, long probeIntervalMillis,
+                               int probeTimeoutSeconds, int failureThreshold, long maxLagSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+        this.failureThreshold = failureThreshold;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (replicas.isEmpty()) {
+            log.warn("설정된 읽기 복제본이 없어 모든 조회를 Master 에서 처리");
+            return;
+        }
+        probeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        probeExecutor.scheduleWithFixedDelay(this::probeAll, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (probeExecutor != null) {
+            probeExecutor.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    // 정상 복제본 중 하나 선택 (사용할 복제본이 없으면 null)
+    public DataSource select() {
+        Replica selected = strategy == Strategy.LEAST_OUTSTANDING ? selectLeastOutstanding() : selectWeightedRoundRobin();
+        return selected == null ? null : selected.getDataSource();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // 사용 중인 복제본의 최대 복제 지연 (측정하지 못한 경우 0)
+    public long currentLagMillis() {
+        long lagSeconds = 0;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable()) {
+                lagSeconds = Math.max(lagSeconds, replica.getLagSeconds());
+            }
+        }
+        return lagSeconds * 1000;
+    }
+
+    // 사용 중인 복제본이 가질 수 있는 최대 복제 지연 (이보다 늦은 복제본은 제외됨)
+    public long maxLagMillis() {
+        return maxLagSeconds * 1000;
+    }
+
+    // 가중치 합 안에서 순번을 돌려가며 선택 (가중치 2:1 이면 A, A, B 순)
+    private Replica selectWeightedRoundRobin() {
+        int totalWeight = 0;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable()) {
+                totalWeight += replica.getWeight();
+            }
+        }
+        if (totalWeight == 0) {
+            return null;
+        }
+
+        long position = Math.floorMod(sequence.getAndIncrement(), totalWeight);
+        for (Replica replica : replicas) {
+            if (replica.isAvailable()) {
+                position -= replica.getWeight();
+                if (position < 0) {
+                    return replica;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 가중치 대비 사용 중인 커넥션(대기 포함)이 가장 적은 복제본 선택 (동률이면 시작 위치를 돌려가며 분산)
+    private Replica selectLeastOutstanding() {
+        int size = replicas.size();
+        int start = (int) Math.floorMod(sequence.getAndIncrement(), size);
+
+        Replica best = null;
+        double bestLoad = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            double load = (replica.outstanding() + 1.0) / replica.getWeight();
+            if (load < bestLoad) {
+                best = replica;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private void probeAll() {
+        for (Replica replica : replicas) {
+            try {
+                probe(replica);
+            } catch (Exception e) {
+                log.error("읽기 복제본 상태 검사 실패 ({}): {}", replica.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void probe(Replica replica) {
+        boolean valid;
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            valid = connection.isValid(probeTimeoutSeconds);
+            if (valid) {
+                updateLag(replica, connection);
+            }
+        } catch (Exception e) {
+            valid = false;
+        }
+
+        if (valid) {
+            replica.consecutiveFailures = 0;
+            if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("읽기 복제본 복귀 ({})", replica.getName());
+            }
+            return;
+        }
+
+        replica.consecutiveFailures++;
+        if (replica.healthy && replica.consecutiveFailures >= failureThreshold) {
+            replica.healthy = false;
+            log.warn("읽기 복제본 제외 ({}), 연속 {}회 검사 실패", replica.getName(), replica.consecutiveFailures);
+            warnIfNoneAvailable();
+        }
+    }
+
+    // 복제 지연 측정 (복제 중이 아니면 0, 복제가 멈췄으면 제외, 권한이 없으면 측정하지 않음)
+    private void updateLag(Replica replica, Connection connection) throws SQLException {
+        if (!replica.lagCheckSupported) {
+            return;
+        }
+
+        long lagSeconds = 0;
+        boolean stopped = false;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            // 다중 소스 복제인 경우 가장 늦은 연결 기준
+            while (resultSet.next()) {
+                long seconds = resultSet.getLong("Seconds_Behind_Master");
+                if (resultSet.wasNull()) {
+                    stopped = true;
+                } else {
+                    lagSeconds = Math.max(lagSeconds, seconds);
+                }
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ER_SPECIFIC_ACCESS_DENIED) {
+                throw e;
+            }
+            replica.lagCheckSupported = false;
+            log.warn("읽기 복제본 복제 지연 측정 불가 ({}), 연결 상태만 검사: {}", replica.getName(), e.getMessage());
+            return;
+        }
+
+        replica.lagSeconds = lagSeconds;
+        boolean lagging = stopped || lagSeconds > maxLagSeconds;
+        if (lagging && !replica.lagging) {
+            replica.lagging = true;
+            log.warn("읽기 복제본 제외 ({}), 복제 {}", replica.getName(), stopped ? "중단" : "지연 " + lagSeconds + "초");
+            warnIfNoneAvailable();
+        } else if (!lagging && replica.lagging) {
+            replica.lagging = false;
+            log.info("읽기 복제본 복귀 ({}), 복제 지연 {}초", replica.getName(), lagSeconds);
+        }
+    }
+
+    private void warnIfNoneAvailable() {
+        if (replicas.stream().noneMatch(Replica::isAvailable)) {
+            log.warn("사용 가능한 읽기 복제본이 없어 Master 에서 조회");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            // 복제본 풀은 빈으로 등록되지 않으므로 풀 지표를 직접 연결 (pool 태그 = 풀 이름)
+            replica.getDataSource().setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("읽기 복제본 사용 가능 여부 (1: 사용, 0: 제외)")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.outstanding", replica, Replica::outstanding)
+                    .description("읽기 복제본에서 사용 중이거나 대기 중인 커넥션 수")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.lag.seconds", replica, Replica::getLagSeconds)
+                    .description("읽기 복제본 복제 지연 (초)")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+
+    @Getter
+    public static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final int weight;
+
+        private volatile boolean healthy = true;
+        private volatile boolean lagging;
+        private volatile long lagSeconds;
+        // 상태 검사 스레드에서만 변경
+        private int consecutiveFailures;
+        private boolean lagCheckSupported = true;
+
+        public Replica(String name, HikariDataSource dataSource, int weight) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.weight = Math.max(1, weight);
+        }
+
+        // 연결 가능하고 복제 지연이 허용치 이내
+        public boolean isAvailable() {
+            return healthy && !lagging;
+        }
+
+        // 사용 중인 커넥션 + 커넥션을 기다리는 요청 수
+        public int outstanding() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+        }
+    }
+}
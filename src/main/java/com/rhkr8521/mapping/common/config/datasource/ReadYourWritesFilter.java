@@ -0,0 +1,91 @@
+package com.rhkr8521.mapping.common.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 한 사용자의 조회를 복제가 따라올 때까지 Master 로 고정
+ * - 쓰기 트랜잭션이 커밋되면 응답 헤더와 쿠키에 고정 만료 시각(epoch millis)을 내려줌
+ * - 이후 요청이 헤더 또는 쿠키로 만료 시각을 보내면 그 시각까지 읽기 전용 트랜잭션도 Master 에서 조회
+ * - 만료 시각은 (쓰기 시각 + 기본 유지 시간 + 현재 복제 지연), 조작된 값은 허용 가능한 최대치로 제한
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes-Until";
+    public static final String COOKIE = "read_your_writes_until";
+
+    private final ReadReplicaBalancer replicaBalancer;
+
+    @Value("${spring.datasource.read-your-writes.window-millis:5000}")
+    private long windowMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long pinnedUntil = Math.min(extractPinnedUntil(request), now + windowMillis + replicaBalancer.maxLagMillis());
+
+        DataSourceContextHolder.set(pinnedUntil > now, () -> markRecentWrite(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceContextHolder.clear();
+        }
+    }
+
+    // 쓰기 커밋 시점 기준으로 고정 만료 시각 갱신 (이미 응답이 나간 경우 생략)
+    private void markRecentWrite(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        long window = windowMillis + replicaBalancer.currentLagMillis();
+        String until = String.valueOf(System.currentTimeMillis() + window);
+
+        response.setHeader(HEADER, until);
+        ResponseCookie cookie = ResponseCookie.from(COOKIE, until)
+                .path("/")
+                .maxAge(Duration.ofMillis(window).plusSeconds(1))
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // 헤더 우선, 없으면 쿠키 (없거나 형식이 잘못되면 0)
+    private long extractPinnedUntil(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rhkr8521.mapping.common.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 복제본 접속 정보 (spring.datasource.replicas[n])
+ * - 기존 spring.datasource.slave 와 같은 항목에 선택 가중치(weight)만 추가
+ */
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private String driverClassName;
+    private String url;
+    private String username;
+    private String password;
+
+    // 가중치 라운드로빈/최소 사용 선택 시 비중 (1 이상)
+    private int weight = 1;
+
+    private Hikari hikari = new Hikari();
+
+    @Getter
+    @Setter
+    public static class Hikari {
+        private String poolName;
+        private int maximumPoolSize = 10;
+        // 복제본 장애 시 오래 기다리지 않도록 커넥션 획득 대기 시간을 짧게 유지
+        private long connectionTimeout = 3000;
+    }
+}
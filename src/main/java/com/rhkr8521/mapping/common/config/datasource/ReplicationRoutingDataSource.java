@@ -1,12 +1,45 @@
 package com.rhkr8521.mapping.common.config.datasource;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.sql.DataSource;
+
+/**
+ * 실제 트랜잭션 상태로 커넥션을 고르는 DataSource
+ * - LazyConnectionDataSourceProxy 뒤에서 첫 쿼리 시점에 호출되므로 트랜잭션의 readOnly 여부가 이미 정해져 있음
+ * - 클래스 단위, TransactionTemplate, 중첩 트랜잭션(REQUIRED 는 바깥 커넥션 공유, REQUIRES_NEW 는 새 트랜잭션 기준)에도 그대로 적용
+ */
 public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadReplicaBalancer replicaBalancer;
+
+    public ReplicationRoutingDataSource(ReadReplicaBalancer replicaBalancer) {
+        this.replicaBalancer = replicaBalancer;
+    }
+
     @Override
     protected Object determineCurrentLookupKey() {
-        DataSourceType dataSourceType = DataSourceContextHolder.get();
-        // 기본값을 MASTER 로 (쓰기, 혹은 설정이 없을 때)
-        return (dataSourceType == null) ? DataSourceType.MASTER : dataSourceType;
+        // 쓰기 트랜잭션, 혹은 트랜잭션 밖이면 MASTER
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                DataSourceContextHolder.registerWrite();
+            }
+            return DataSourceType.MASTER;
+        }
+        // 최근에 쓰기를 한 사용자는 복제가 따라올 때까지 MASTER 에서 조회
+        return DataSourceContextHolder.isPinnedToMaster() ? DataSourceType.MASTER : DataSourceType.SLAVE;
+    }
+
+    // 읽기 요청은 복제본 중 하나로 보내고, 사용할 수 있는 복제본이 없으면 MASTER 사용
+    @Override
+    protected DataSource determineTargetDataSource() {
+        if (determineCurrentLookupKey() == DataSourceType.SLAVE) {
+            DataSource replica = replicaBalancer.select();
+            if (replica != null) {
+                return replica;
+            }
+        }
+        return getResolvedDefaultDataSource();
     }
-}
\ No newline at end of file
+}
@@ -33,6 +33,13 @@ public enum ErrorStatus {
     ALREADY_BLOCK_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"이미 차단한 사용자입니다."),
     NOT_BLOCK_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"차단한 사용자가 아닙니다."),
     MISSING_OAUTH2_AUTHORIZATION_CODE_EXCEPTION(HttpStatus.BAD_REQUEST,"OAuth2 Authorization Code가 입력되지 않았습니다."),
+    INVALID_MAP_BOUNDS_EXCEPTION(HttpStatus.BAD_REQUEST,"지도 영역 또는 줌 레벨이 올바르지 않습니다."),
+    TOO_LARGE_MAP_BOUNDS_EXCEPTION(HttpStatus.BAD_REQUEST,"현재 줌 레벨에서 조회할 수 있는 지도 영역보다 넓습니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST,"페이지 커서가 올바르지 않습니다."),
+    INVALID_UPLOAD_IMAGE_KEY_EXCEPTION(HttpStatus.BAD_REQUEST,"업로드한 이미지 경로가 올바르지 않습니다."),
+    TOO_LARGE_UPLOAD_IMAGE_EXCEPTION(HttpStatus.BAD_REQUEST,"업로드한 이미지의 크기가 너무 큽니다."),
+    NOT_ALLOW_DIRECT_UPLOAD_IMG_MIME(HttpStatus.BAD_REQUEST,"이미지 파일(jpeg, png, webp, gif) 만 직접 업로드할 수 있습니다."),
+    TOO_MANY_MEMO_IMAGES_EXCEPTION(HttpStatus.BAD_REQUEST,"메모에 등록할 수 있는 이미지 수를 초과했습니다."),
 
     /**
      * 401 UNAUTHORIZED
@@ -51,6 +58,7 @@ public enum ErrorStatus {
     USER_NOTFOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 유저를 찾을 수 없습니다."),
     MEMO_NOTFOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 메모를 찾을 수 없습니다."),
     COMMENT_NOTFOUND_EXCEPTION(HttpStatus.NOT_FOUND,"해당 댓글을 찾을 수 없습니다."),
+    UPLOAD_IMAGE_NOTFOUND_EXCEPTION(HttpStatus.NOT_FOUND,"업로드된 이미지를 찾을 수 없습니다."),
     /**
      * 500 SERVER_ERROR
      */
@@ -26,14 +26,18 @@ public enum SuccessStatus {
 
     SEND_TOTAL_MEMO_SUCCESS(HttpStatus.OK, "전체 메모 발송 성공"),
     SEND_MEMO_DETAIL_SUCCESS(HttpStatus.OK, "메모 상세 조회 성공"),
+    SEND_MEMO_CLUSTER_SUCCESS(HttpStatus.OK, "메모 클러스터 조회 성공"),
 
     DELETE_MEMO_SUCCESS(HttpStatus.OK, "메모 삭제 성공"),
     UPDATE_MEMO_SUCCESS(HttpStatus.OK,"메모 수정 성공"),
+    CREATE_MEMO_IMAGE_UPLOAD_URL_SUCCESS(HttpStatus.OK,"메모 이미지 업로드 URL 발급 성공"),
+    ATTACH_MEMO_IMAGE_SUCCESS(HttpStatus.OK,"메모 이미지 등록 성공"),
     TOGGLE_LIKE_SUCCESS(HttpStatus.OK, "좋아요 토글 성공"),
     TOGGLE_HATE_SUCCESS(HttpStatus.OK,"싫어요 토글 성공"),
 
     SEND_COMMENT_IDS_SUCCESS(HttpStatus.OK,"댓글 ID 목록 조회 성공"),
     SEND_COMMENT_DETAIL_SUCCESS(HttpStatus.OK,"댓글 상세 조회 성공"),
+    SEND_COMMENT_LIST_SUCCESS(HttpStatus.OK,"댓글 목록 조회 성공"),
     MODIFY_COMMENT_SUCCESS(HttpStatus.OK,"댓글 수정 성공"),
     DELETE_COMMENT_SUCCESS(HttpStatus.OK,"댓글 삭제 상공"),
 
@@ -0,0 +1,125 @@
+package com.rhkr8521.mapping.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * long 값 전용 오픈 어드레싱(선형 탐색) 해시 셋
+ * - 박싱 없이 O(1) 포함 여부 확인
+ * - 생성 후 변경하지 않는 읽기 전용 셋으로, 여러 스레드에서 공유 가능
+ */
+public final class LongOpenHashSet {
+
+    public static final LongOpenHashSet EMPTY = new LongOpenHashSet(new long[0], false, 0);
+
+    // 빈 슬롯 표시용 값 (0 자체는 별도 플래그로 관리)
+    private static final long EMPTY_SLOT = 0L;
+
+    private final long[] table;
+    private final boolean containsZero;
+    private final int size;
+
+    private LongOpenHashSet(long[] table, boolean containsZero, int size) {
+        this.table = table;
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    public static LongOpenHashSet of(Collection<Long> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 적재율 50% 이하가 되도록 2의 거듭제곱 크기로 테이블 생성
+        int capacity = Integer.highestOneBit(Math.max(2, values.size() * 2 - 1)) << 1;
+        long[] table = new long[capacity];
+        int mask = capacity - 1;
+        boolean containsZero = false;
+        int size = 0;
+
+        for (Long boxed : values) {
+            long value = boxed;
+            if (value == EMPTY_SLOT) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+                continue;
+            }
+
+            int idx = mix(value) & mask;
+            while (table[idx] != EMPTY_SLOT && table[idx] != value) {
+                idx = (idx + 1) & mask;
+            }
+            if (table[idx] == EMPTY_SLOT) {
+                table[idx] = value;
+                size++;
+            }
+        }
+        return new LongOpenHashSet(table, containsZero, size);
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY_SLOT) {
+            return containsZero;
+        }
+        if (table.length == 0) {
+            return false;
+        }
+
+        int mask = table.length - 1;
+        int idx = mix(value) & mask;
+        while (table[idx] != EMPTY_SLOT) {
+            if (table[idx] == value) {
+                return true;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean contains(Long value) {
+        return value != null && contains(value.longValue());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // JPQL IN 파라미터 등 컬렉션이 필요한 경우 사용
+    public List<Long> toList() {
+        List<Long> result = new ArrayList<>(size);
+        if (containsZero) {
+            result.add(EMPTY_SLOT);
+        }
+        for (long value : table) {
+            if (value != EMPTY_SLOT) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        long[] values = toList().stream().mapToLong(Long::longValue).sorted().toArray();
+        return Arrays.toString(values);
+    }
+
+    // 연속된 id 가 한쪽 슬롯에 몰리지 않도록 비트를 섞음 (MurmurHash3 finalizer)
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -1,32 +1,53 @@
 package com.rhkr8521.mapping.scheduler;
 
 import com.rhkr8521.mapping.api.aws.s3.S3Service;
-import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
-import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.event.MemberBlockChangedEvent;
 import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
-import com.rhkr8521.mapping.api.memo.entity.Memo;
+import com.rhkr8521.mapping.api.memo.entity.MemoImage;
+import com.rhkr8521.mapping.api.memo.event.MemoChangedEvent;
 import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoImageRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoLocation;
 import com.rhkr8521.mapping.api.report.repository.CommentReportRepository;
 import com.rhkr8521.mapping.api.report.repository.MemoReportRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.watchdog.repository.ProfanityDetectRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 탈퇴 회원 데이터 정리
+ * - 회원별로 메모, 댓글을 청크 단위로 나누어 짧은 트랜잭션에서 일괄(IN) 삭제
+ * - 삭제된 데이터는 다시 조회되지 않으므로 DB 상태 자체가 진행 지점 역할을 함
+ *   (중간에 실패하거나 서버가 재시작되어도 다음 실행에서 남은 데이터부터 이어서 정리)
+ * - 회원 행은 마지막 청크에서 삭제하므로, 정리가 끝나지 않은 회원은 다음 실행 대상에 다시 포함됨
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberDataCleanupScheduler {
 
+    // 한 트랜잭션에서 삭제할 메모/댓글 수
+    private static final int CHUNK_SIZE = 200;
+    // 한 번에 조회할 정리 대상 회원 수
+    private static final int MEMBER_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final MemoRepository memoRepository;
+    private final MemoImageRepository memoImageRepository;
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final MemoLikeRepository memoLikeRepository;
@@ -35,70 +56,150 @@ public class MemberDataCleanupScheduler {
     private final S3Service s3Service;
     private final MemberBlockRepository memberBlockRepository;
     private final CommentReportRepository commentReportRepository;
+    private final ProfanityDetectRepository profanityDetectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 매일 자정에 실행 (cron 표현식: "0 0 0 * * *")
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void cleanupDeletedMembers() {
         // 90일 이후 모든 데이터 삭제
         LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
-        // deleted가 true이고 deletedAt이 cutoff 이전인 회원 목록 조회
-        List<Member> membersToDelete = memberRepository.findAllByDeletedTrueAndDeletedAtBefore(cutoff);
-
-        for (Member member : membersToDelete) {
-            Long memberId = member.getId();
 
-            // 1. 해당 회원이 작성한 모든 메모 조회
-            List<Memo> memos = memoRepository.findByMemberId(memberId);
-            for (Memo memo : memos) {
-                Long memoId = memo.getId();
+        int cleaned = 0;
+        int failed = 0;
+        Long lastMemberId = 0L;
+        while (true) {
+            // deleted가 true이고 deletedAt이 cutoff 이전인 회원을 id 순으로 조회
+            List<Long> memberIds = memberRepository.findExpiredDeletedMemberIds(cutoff, lastMemberId,
+                    PageRequest.of(0, MEMBER_PAGE_SIZE));
+            if (memberIds.isEmpty()) {
+                break;
+            }
 
-                // 1-1. 메모에 포함된 이미지가 있으면 S3에서 실제 파일 삭제
-                if (memo.getImages() != null) {
-                    memo.getImages().forEach(image -> s3Service.deleteFile(image.getImageUrl()));
+            for (Long memberId : memberIds) {
+                try {
+                    cleanupMember(memberId);
+                    cleaned++;
+                } catch (Exception e) {
+                    // 한 회원의 정리가 실패해도 나머지 회원은 계속 정리 (남은 데이터는 다음 실행에서 이어서 정리)
+                    failed++;
+                    log.error("탈퇴 회원 데이터 정리 실패: memberId={} ({})", memberId, e.getMessage());
                 }
+            }
+            lastMemberId = memberIds.get(memberIds.size() - 1);
+        }
 
-                // 1-2. 메모에 연관된 좋아요, 싫어요, 신고 삭제
-                memoLikeRepository.deleteAllByMemoId(memoId);
-                memoHateRepository.deleteAllByMemoId(memoId);
-                memoReportRepository.deleteAllByMemoId(memoId);
-
-                // 1-3. 해당 메모의 댓글(및 댓글 좋아요) 삭제
-                List<Comment> commentsForMemo = commentRepository.findByMemoId(memoId);
-                for (Comment comment : commentsForMemo) {
-                    // 댓글 좋아요 삭제
-                    commentLikeRepository.deleteAllByCommentId(comment.getId());
-                    // 댓글 신고 삭제
-                    commentReportRepository.deleteAllByCommentId(comment.getId());
-                    // 댓글 삭제
-                    commentRepository.delete(comment);
-                }
+        if (cleaned > 0 || failed > 0) {
+            log.info("탈퇴 회원 데이터 정리 완료: 성공 {}명, 실패 {}명", cleaned, failed);
+        }
+    }
 
-                // 1-4. 메모 자체 삭제
-                memoRepository.delete(memo);
+    private void cleanupMember(Long memberId) {
+        // 1. 해당 회원이 작성한 메모를 청크 단위로 삭제
+        int memoCount = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> deleteMemoChunk(memberId));
+            if (deleted == null || deleted == 0) {
+                break;
             }
+            memoCount += deleted;
+            log.debug("탈퇴 회원 메모 정리 중: memberId={}, {}건 삭제", memberId, memoCount);
+        }
 
-            // 2. 해당 회원이 작성한 댓글 조회 및 삭제
-            List<Comment> comments = commentRepository.findByMemberId(memberId);
-            for (Comment comment : comments) {
-                // 댓글 좋아요 삭제
-                commentLikeRepository.deleteAllByCommentId(comment.getId());
-                // 댓글 신고 삭제
-                commentReportRepository.deleteAllByCommentId(comment.getId());
-                // 댓글 삭제
-                commentRepository.delete(comment);
+        // 2. 해당 회원이 다른 메모에 작성한 댓글을 청크 단위로 삭제
+        int commentCount = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> deleteCommentChunk(memberId));
+            if (deleted == null || deleted == 0) {
+                break;
             }
+            commentCount += deleted;
+            log.debug("탈퇴 회원 댓글 정리 중: memberId={}, {}건 삭제", memberId, commentCount);
+        }
+
+        // 3. 회원이 남긴 좋아요, 싫어요, 신고, 차단 정보와 회원 자체 삭제
+        transactionTemplate.executeWithoutResult(status -> deleteMemberRows(memberId));
+
+        log.info("탈퇴 회원 데이터 정리: memberId={}, 메모 {}건, 댓글 {}건", memberId, memoCount, commentCount);
+    }
+
+    // 회원의 메모 한 청크와 메모에 연관된 데이터 삭제 후 삭제한 메모 수 반환
+    private int deleteMemoChunk(Long memberId) {
+        List<MemoLocation> memos = memoRepository.findLocationsByMemberId(memberId, PageRequest.of(0, CHUNK_SIZE));
+        if (memos.isEmpty()) {
+            return 0;
+        }
+        List<Long> memoIds = memos.stream().map(MemoLocation::getId).toList();
 
-            // 3. 해당 회원과 관련된 블록 정보(MemberBlock) 삭제
-            memberBlockRepository.deleteAllByBlockerIdOrBlockedId(memberId, memberId);
+        // 1-1. 메모에 포함된 이미지(썸네일 포함) 파일 URL 수집
+        List<String> fileUrls = new ArrayList<>();
+        for (MemoImage image : memoImageRepository.findByMemoIdIn(memoIds)) {
+            fileUrls.addAll(image.getFileUrls());
+        }
+
+        // 1-2. 메모에 달린 댓글의 좋아요, 신고와 댓글 삭제
+        commentLikeRepository.deleteAllByMemoIds(memoIds);
+        commentReportRepository.deleteAllByMemoIds(memoIds);
+        commentRepository.deleteAllByMemoIds(memoIds);
+
+        // 1-3. 메모에 연관된 좋아요, 싫어요, 신고, 이미지 삭제
+        memoLikeRepository.deleteAllByMemoIds(memoIds);
+        memoHateRepository.deleteAllByMemoIds(memoIds);
+        memoReportRepository.deleteAllByMemoIds(memoIds);
+        memoImageRepository.deleteAllByMemoIds(memoIds);
+
+        // 1-4. 메모 자체 삭제
+        memoRepository.deleteAllByIds(memoIds);
+        for (MemoLocation memo : memos) {
+            eventPublisher.publishEvent(MemoChangedEvent.deleted(memo.getId(), memo.getLat(), memo.getLng()));
+        }
+
+        // 1-5. S3 파일은 커밋 이후 DeleteObjects 로 일괄 삭제
+        s3Service.deleteFilesAfterCommit(fileUrls);
+        return memos.size();
+    }
 
-            // 4. 회원의 프로필 이미지가 존재하면 S3에서 삭제
+    // 회원이 작성한 댓글 한 청크와 댓글의 좋아요, 신고 삭제 후 삭제한 댓글 수 반환
+    private int deleteCommentChunk(Long memberId) {
+        List<Long> commentIds = commentRepository.findIdsByMemberId(memberId, PageRequest.of(0, CHUNK_SIZE));
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+
+        commentLikeRepository.deleteAllByCommentIds(commentIds);
+        commentReportRepository.deleteAllByCommentIds(commentIds);
+        commentRepository.deleteAllByIds(commentIds);
+        return commentIds.size();
+    }
+
+    private void deleteMemberRows(Long memberId) {
+        memberRepository.findById(memberId).ifPresent(member -> {
+            // 다른 메모, 댓글에 누른 좋아요, 싫어요는 카운트를 줄인 뒤 삭제
+            memoRepository.decrementLikeCountsLikedBy(memberId);
+            memoLikeRepository.deleteAllByMemberId(memberId);
+            memoRepository.decrementHateCountsHatedBy(memberId);
+            memoHateRepository.deleteAllByMemberId(memberId);
+            commentRepository.decrementLikeCountsLikedBy(memberId);
+            commentLikeRepository.deleteAllByMemberId(memberId);
+
+            // 회원이 작성한 신고, 비속어 감지 기록 삭제
+            memoReportRepository.deleteAllByMemberId(memberId);
+            commentReportRepository.deleteAllByMemberId(memberId);
+            profanityDetectRepository.deleteAllByMemberId(memberId);
+
+            // 해당 회원과 관련된 블록 정보(MemberBlock) 삭제 후 차단 목록 캐시 무효화
+            List<Long> blockerIds = memberBlockRepository.findBlockerIdsByBlockedId(memberId);
+            memberBlockRepository.deleteAllByMemberId(memberId);
+            blockerIds.forEach(blockerId -> eventPublisher.publishEvent(new MemberBlockChangedEvent(blockerId)));
+
+            // 회원의 프로필 이미지가 존재하면 커밋 이후 S3에서 삭제
             if (member.getImageUrl() != null) {
-                s3Service.deleteFile(member.getImageUrl());
+                s3Service.deleteFilesAfterCommit(List.of(member.getImageUrl()));
             }
 
-            // 4. 최종적으로 회원 자체 삭제
+            // 최종적으로 회원 자체 삭제
             memberRepository.delete(member);
-        }
+        });
     }
-}
\ No newline at end of file
+}
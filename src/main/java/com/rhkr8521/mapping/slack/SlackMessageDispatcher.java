@@ -0,0 +1,181 @@
+package com.rhkr8521.mapping.slack;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 슬랙 메시지 비동기 전송기
+ * - 제한된 크기의 큐에 메시지를 쌓고 백그라운드 스레드가 묶어서(batch) 전송
+ * - 전송 간 최소 간격으로 전송 빈도 제한, 같은 메시지는 일정 시간 동안 한 번만 전송
+ * - 큐가 가득 차면 메시지를 버리며 요청 스레드를 막지 않음
+ */
+@Slf4j
+public class SlackMessageDispatcher implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final String webhookUrl;
+    private final RestTemplate restTemplate;
+    private final BlockingQueue<String> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long minIntervalMillis;
+    private final long dedupeWindowMillis;
+
+    private final Map<String, Long> recentMessages = new ConcurrentHashMap<>();
+    private final AtomicLong suppressedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long lastSentAt = 0;
+
+    public SlackMessageDispatcher(String webhookUrl, RestTemplate restTemplate, int queueCapacity, int batchSize,
+                                  long lingerMillis, long minIntervalMillis, long dedupeWindowMillis) {
+        this.webhookUrl = webhookUrl;
+        this.restTemplate = restTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.minIntervalMillis = minIntervalMillis;
+        this.dedupeWindowMillis = dedupeWindowMillis;
+        this.worker = new Thread(this::run, "slack-dispatcher");
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 메시지를 전송 큐에 추가
+     * - 중복 메시지이거나 큐가 가득 찬 경우 false 반환
+     */
+    public boolean enqueue(String message) {
+        long now = System.currentTimeMillis();
+        boolean[] duplicate = {false};
+        recentMessages.compute(message, (key, lastSeen) -> {
+            if (lastSeen != null && now - lastSeen < dedupeWindowMillis) {
+                duplicate[0] = true;
+                return lastSeen;
+            }
+            return now;
+        });
+
+        if (duplicate[0]) {
+            suppressedCount.incrementAndGet();
+            return false;
+        }
+        if (!queue.offer(message)) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    // 종료 시 남은 메시지를 전송하고 전송 스레드 종료
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    throttle();
+                    send(batch);
+                    batch.clear();
+                }
+                purgeRecentMessages();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 요청 시 큐에 남은 메시지까지 모두 전송
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            send(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+    }
+
+    // 첫 메시지를 받은 뒤 lingerMillis 동안 또는 batchSize 가 찰 때까지 메시지를 모음
+    private void collectBatch(List<String> batch) throws InterruptedException {
+        String first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.currentTimeMillis() + lingerMillis;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            String next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 전송 간 최소 간격 유지
+    private void throttle() throws InterruptedException {
+        long wait = lastSentAt + minIntervalMillis - System.currentTimeMillis();
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+    }
+
+    private void send(List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        StringBuilder text = new StringBuilder(String.join("\n", batch));
+        long suppressed = suppressedCount.getAndSet(0);
+        long dropped = droppedCount.getAndSet(0);
+        if (suppressed > 0) {
+            text.append("\n(중복 메시지 ").append(suppressed).append("건 생략)");
+        }
+        if (dropped > 0) {
+            text.append("\n(대기열 초과로 메시지 ").append(dropped).append("건 누락)");
+        }
+
+        try {
+            // JSON 직렬화는 RestTemplate 의 메시지 컨버터가 처리하므로 메시지 내 특수문자도 안전하게 전송
+            restTemplate.postForObject(webhookUrl, Map.of("text", text.toString()), String.class);
+        } catch (Exception e) {
+            // Slack 전송 중 예외가 발생해도 서비스 로직에 영향 주지 않도록 로그만 남기고 처리
+            log.error("슬랙 메시지 전송 실패: {}", e.getMessage());
+        } finally {
+            lastSentAt = System.currentTimeMillis();
+        }
+    }
+
+    // 중복 판단 기간이 지난 메시지 기록 정리
+    private void purgeRecentMessages() {
+        long cutoff = System.currentTimeMillis() - dedupeWindowMillis;
+        recentMessages.values().removeIf(lastSeen -> lastSeen < cutoff);
+    }
+}
@@ -1,13 +1,14 @@
 package com.rhkr8521.mapping.slack;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
@@ -18,29 +19,58 @@ public class SlackNotificationService {
     @Value("${slack.webhook.url}")
     private String slackWebhookUrl;
 
+    // 전송 대기열 크기, 한 번에 묶어 보낼 메시지 수, 묶음 대기 시간
+    @Value("${slack.dispatcher.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${slack.dispatcher.batch-size:20}")
+    private int batchSize;
+
+    @Value("${slack.dispatcher.linger-millis:1000}")
+    private long lingerMillis;
+
+    // 전송 간 최소 간격 (Slack 웹훅 초당 1건 제한)
+    @Value("${slack.dispatcher.min-interval-millis:1000}")
+    private long minIntervalMillis;
+
+    // 같은 메시지를 다시 보내지 않는 기간
+    @Value("${slack.dispatcher.dedupe-window-seconds:60}")
+    private long dedupeWindowSeconds;
+
+    private SlackMessageDispatcher dispatcher;
+
+    @PostConstruct
+    public void init() {
+        dispatcher = new SlackMessageDispatcher(slackWebhookUrl, new RestTemplate(getClientHttpRequestFactory()),
+                queueCapacity, batchSize, lingerMillis, minIntervalMillis, dedupeWindowSeconds * 1000);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.close();
+    }
+
     /**
      * 슬랙에 간단한 텍스트 메시지를 보내는 메서드
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 전송 대기열에 추가 (롤백 시 전송하지 않음)
+     * - 실제 전송은 백그라운드에서 수행되므로 요청 스레드와 DB 커넥션을 붙잡지 않음
      */
     public void sendSlackMessage(String message) {
-        try {
-            RestTemplate restTemplate = new RestTemplate(getClientHttpRequestFactory());
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            String payload = "{\"text\": \"" + message + "\"}";
-
-            HttpEntity<String> entity = new HttpEntity<>(payload, headers);
-            restTemplate.postForObject(slackWebhookUrl, entity, String.class);
-
-        } catch (Exception e) {
-            // Slack 전송 중 예외가 발생해도 서비스 로직에 영향 주지 않도록 로그만 남기고 처리
-            log.error("슬랙 메시지 전송 실패: {}", e.getMessage());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.enqueue(message);
+                }
+            });
+        } else {
+            dispatcher.enqueue(message);
         }
     }
 
     private SimpleClientHttpRequestFactory getClientHttpRequestFactory() {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // 필요하다면 타임아웃 설정
         factory.setConnectTimeout(3000);
         factory.setReadTimeout(3000);
         return factory;
@@ -0,0 +1,51 @@
+-- 좋아요/싫어요, 신고, 차단에 (대상, 회원) 유니크 키 추가
+-- 기존 중복 행은 가장 먼저 생성된 행만 남기고 정리
+
+-- 1. 중복 좋아요/싫어요로 늘어난 카운트 차감
+UPDATE memo m
+    JOIN (SELECT memo_id, COUNT(*) - COUNT(DISTINCT user_id) AS dup
+          FROM memo_like
+          GROUP BY memo_id
+          HAVING dup > 0) d ON d.memo_id = m.memo_id
+SET m.like_cnt = GREATEST(m.like_cnt - d.dup, 0);
+
+UPDATE memo m
+    JOIN (SELECT memo_id, COUNT(*) - COUNT(DISTINCT user_id) AS dup
+          FROM memo_hate
+          GROUP BY memo_id
+          HAVING dup > 0) d ON d.memo_id = m.memo_id
+SET m.hate_cnt = GREATEST(m.hate_cnt - d.dup, 0);
+
+UPDATE comment c
+    JOIN (SELECT comment_id, COUNT(*) - COUNT(DISTINCT user_id) AS dup
+          FROM comment_like
+          GROUP BY comment_id
+          HAVING dup > 0) d ON d.comment_id = c.comment_id
+SET c.like_cnt = GREATEST(c.like_cnt - d.dup, 0);
+
+-- 2. 중복 행 삭제
+DELETE l FROM memo_like l
+    JOIN memo_like k ON k.memo_id = l.memo_id AND k.user_id = l.user_id AND k.memo_like_id < l.memo_like_id;
+
+DELETE h FROM memo_hate h
+    JOIN memo_hate k ON k.memo_id = h.memo_id AND k.user_id = h.user_id AND k.memo_hate_id < h.memo_hate_id;
+
+DELETE l FROM comment_like l
+    JOIN comment_like k ON k.comment_id = l.comment_id AND k.user_id = l.user_id AND k.comment_like_id < l.comment_like_id;
+
+DELETE r FROM memo_report r
+    JOIN memo_report k ON k.memo_id = r.memo_id AND k.user_id = r.user_id AND k.report_id < r.report_id;
+
+DELETE r FROM comment_report r
+    JOIN comment_report k ON k.comment_id = r.comment_id AND k.user_id = r.user_id AND k.report_id < r.report_id;
+
+DELETE b FROM member_block b
+    JOIN member_block k ON k.blocker_id = b.blocker_id AND k.blocked_id = b.blocked_id AND k.id < b.id;
+
+-- 3. 유니크 키 추가 (ddl-auto 로 이미 생성된 경우 건너뜀)
+ALTER TABLE memo_like ADD UNIQUE INDEX IF NOT EXISTS uk_memo_like_memo_user (memo_id, user_id);
+ALTER TABLE memo_hate ADD UNIQUE INDEX IF NOT EXISTS uk_memo_hate_memo_user (memo_id, user_id);
+ALTER TABLE comment_like ADD UNIQUE INDEX IF NOT EXISTS uk_comment_like_comment_user (comment_id, user_id);
+ALTER TABLE memo_report ADD UNIQUE INDEX IF NOT EXISTS uk_memo_report_memo_user (memo_id, user_id);
+ALTER TABLE comment_report ADD UNIQUE INDEX IF NOT EXISTS uk_comment_report_comment_user (comment_id, user_id);
+ALTER TABLE member_block ADD UNIQUE INDEX IF NOT EXISTS uk_member_block_blocker_blocked (blocker_id, blocked_id);
@@ -0,0 +1,27 @@
+-- 자주 조회하는 컬럼 보조 인덱스 추가 (엔티티 @Table(indexes) 와 동일, ddl-auto 로 이미 생성된 경우 건너뜀)
+
+-- 회원 조회 (로그인, 토큰 재발급, 닉네임 중복 확인, 탈퇴 회원 정리)
+CREATE INDEX IF NOT EXISTS idx_member_email ON member (email);
+CREATE INDEX IF NOT EXISTS idx_member_refresh_token ON member (refresh_token);
+CREATE INDEX IF NOT EXISTS idx_member_social_id ON member (social_id);
+CREATE INDEX IF NOT EXISTS idx_member_nickname ON member (nickname);
+CREATE INDEX IF NOT EXISTS idx_member_deleted_deleted_at ON member (deleted, deleted_at);
+
+-- 내가 작성한 메모 목록
+CREATE INDEX IF NOT EXISTS idx_memo_user_deleted_created_at ON memo (user_id, is_deleted, created_at);
+
+-- 메모 이미지
+CREATE INDEX IF NOT EXISTS idx_memo_image_memo ON memo_image (memo_id);
+
+-- 메모 댓글 목록 (작성일순, 커서 페이지), 회원별 댓글
+CREATE INDEX IF NOT EXISTS idx_comment_memo_created_at ON comment (memo_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_comment_memo_id ON comment (memo_id, comment_id);
+CREATE INDEX IF NOT EXISTS idx_comment_user ON comment (user_id);
+
+-- 회원별 좋아요/싫어요 (대상별 조회는 V1 의 유니크 키 사용)
+CREATE INDEX IF NOT EXISTS idx_memo_like_user ON memo_like (user_id);
+CREATE INDEX IF NOT EXISTS idx_memo_hate_user ON memo_hate (user_id);
+CREATE INDEX IF NOT EXISTS idx_comment_like_user ON comment_like (user_id);
+
+-- 나를 차단한 회원 조회 (차단한 회원 조회는 V1 의 유니크 키 사용)
+CREATE INDEX IF NOT EXISTS idx_member_block_blocked ON member_block (blocked_id);
@@ -0,0 +1,252 @@
+package com.rhkr8521.mapping.api.aws.s3;
+
+import com.rhkr8521.mapping.api.aws.image.ImageProcessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MinIO 컨테이너에 실제로 업로드하여 S3Service 업로드 경로 확인
+ * - 여러 이미지 동시 업로드, 임계값 이상 파일의 멀티파트 업로드, 실패 시 업로드된 파일 정리
+ * - 변환할 수 없는 파일(이미지가 아닌 데이터)은 원본 그대로 업로드되므로 멀티파트 경로 확인에 사용
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class S3ServiceMinioTest {
+
+    private static final String BUCKET = "mapping-test";
+    // S3 최소 파트 크기
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private ImageProcessor imageProcessor;
+    private S3Service s3Service;
+
+    @BeforeAll
+    void setUp() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(true)
+                .build();
+
+        s3Client = S3Client.builder()
+                .credentialsProvider(credentials)
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .serviceConfiguration(s3Configuration)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .credentialsProvider(credentials)
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .serviceConfiguration(s3Configuration)
+                .build();
+        s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build());
+
+        imageProcessor = new ImageProcessor();
+        ReflectionTestUtils.setField(imageProcessor, "threads", 2);
+        ReflectionTestUtils.setField(imageProcessor, "queueCapacity", 50);
+        ReflectionTestUtils.setField(imageProcessor, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(imageProcessor, "maxBytes", 31457280L);
+        ReflectionTestUtils.setField(imageProcessor, "maxPixels", 50000000L);
+        imageProcessor.init();
+
+        s3Service = new S3Service(s3Client, s3Presigner, imageProcessor);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "domain", minio.getS3URL());
+        ReflectionTestUtils.setField(s3Service, "multipartThresholdBytes", (long) PART_SIZE * 2);
+        ReflectionTestUtils.setField(s3Service, "multipartPartSizeBytes", PART_SIZE);
+        ReflectionTestUtils.setField(s3Service, "uploadThreads", 4);
+        ReflectionTestUtils.setField(s3Service, "deleteThreads", 2);
+        ReflectionTestUtils.setField(s3Service, "presignExpirationSeconds", 600L);
+        s3Service.init();
+    }
+
+    @AfterAll
+    void tearDown() {
+        s3Service.shutdown();
+        imageProcessor.shutdown();
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    void uploadsImagesConcurrently() throws IOException {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            files.add(new MockMultipartFile("images", "image" + i + ".png", "image/png", png(400 + i, 300)));
+        }
+
+        List<UploadedImage> uploaded = s3Service.uploadMemoImages("concurrent", files);
+
+        // 이미지마다 상세, 썸네일 두 파일이 업로드되고 요청 순서대로 반환
+        assertThat(uploaded).hasSize(6);
+        for (int i = 0; i < uploaded.size(); i++) {
+            assertThat(uploaded.get(i).getImageUrl()).contains("/image" + i + "_");
+            assertThat(uploaded.get(i).getThumbnailUrl()).isNotEqualTo(uploaded.get(i).getImageUrl());
+        }
+        List<String> keys = listKeys(s3Service.memoImageKeyPrefix("concurrent")).stream().map(S3Object::key).toList();
+        assertThat(keys).containsExactlyInAnyOrderElementsOf(uploaded.stream()
+                .flatMap(image -> image.getFileUrls().stream())
+                .map(this::keyOf)
+                .toList());
+    }
+
+    @Test
+    void uploadsLargeFileInParts() throws IOException {
+        // 임계값(10MB)을 넘는 파일은 5MB 파트 3개로 업로드
+        int size = PART_SIZE * 2 + 1024;
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("images", "large.bin", "application/octet-stream", new byte[size]),
+                new MockMultipartFile("images", "small.bin", "application/octet-stream", new byte[1024]));
+
+        List<UploadedImage> uploaded = s3Service.uploadMemoImages("multipart", files);
+
+        assertThat(uploaded).hasSize(2);
+        List<S3Object> objects = listKeys(s3Service.memoImageKeyPrefix("multipart"));
+        assertThat(objects).hasSize(2);
+        S3Object large = objects.stream().filter(object -> object.key().equals(keyOf(uploaded.get(0).getImageUrl()))).findFirst().orElseThrow();
+        assertThat(large.size()).isEqualTo(size);
+        // 멀티파트 업로드의 ETag 는 "{해시}-{파트 수}" 형식
+        assertThat(large.eTag()).matches("\"?[0-9a-f]+-3\"?");
+        assertThat(pendingMultipartUploads(s3Service.memoImageKeyPrefix("multipart"))).isZero();
+    }
+
+    @Test
+    void removesUploadedFilesWhenOneUploadFails() {
+        // 멀티파트 업로드 도중 두 번째 파트를 읽을 때 실패하는 파일
+        int size = PART_SIZE * 3;
+        List<MultipartFile> files = new ArrayList<>();
+        files.add(new FailingMultipartFile("broken.bin", new byte[size], PART_SIZE + 1));
+        for (int i = 0; i < 4; i++) {
+            files.add(new MockMultipartFile("images", "file" + i + ".bin", "application/octet-stream", new byte[1024]));
+        }
+        files.add(new MockMultipartFile("images", "large.bin", "application/octet-stream", new byte[size]));
+
+        String prefix = s3Service.memoImageKeyPrefix("failure");
+        assertThatThrownBy(() -> s3Service.uploadMemoImages("failure", files))
+                .isInstanceOf(IOException.class);
+
+        // 업로드된 파일은 진행 중인 업로드가 끝난 뒤 비동기로 삭제되고, 멀티파트 업로드는 취소됨
+        awaitUntil(() -> listKeys(prefix).isEmpty() && pendingMultipartUploads(prefix) == 0);
+        assertThat(listKeys(prefix)).isEmpty();
+        assertThat(pendingMultipartUploads(prefix)).isZero();
+    }
+
+    private List<S3Object> listKeys(String prefix) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(BUCKET)
+                        .prefix(prefix)
+                        .build())
+                .contents().stream().toList();
+    }
+
+    private int pendingMultipartUploads(String prefix) {
+        return s3Client.listMultipartUploads(ListMultipartUploadsRequest.builder()
+                        .bucket(BUCKET)
+                        .prefix(prefix)
+                        .build())
+                .uploads().size();
+    }
+
+    private String keyOf(String url) {
+        return url.replace(minio.getS3URL() + "/" + BUCKET + "/", "");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 지정한 바이트 수만큼 읽은 뒤 읽기에 실패하는 파일
+    private static class FailingMultipartFile extends MockMultipartFile {
+
+        private final long failAfterBytes;
+
+        FailingMultipartFile(String originalFilename, byte[] content, long failAfterBytes) {
+            super("images", originalFilename, "application/octet-stream", content);
+            this.failAfterBytes = failAfterBytes;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                private long read;
+
+                @Override
+                public int read() throws IOException {
+                    checkFailure();
+                    int value = super.read();
+                    read++;
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    checkFailure();
+                    int count = super.read(b, off, (int) Math.min(len, failAfterBytes - read));
+                    if (count > 0) {
+                        read += count;
+                    }
+                    return count;
+                }
+
+                private void checkFailure() throws IOException {
+                    if (read >= failAfterBytes) {
+                        throw new IOException("읽기 실패");
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.rhkr8521.mapping.api.watchdog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    private final AhoCorasickMatcher matcher = AhoCorasickMatcher.of(
+            List.of("시발", "니미", "fuck"),
+            List.of("시발점", "시발역"));
+
+    @Test
+    void matchesAcrossSeparatorsInsideWord() {
+        assertThat(words("시.발")).containsExactly("시발");
+        assertThat(words("F-U-C-K")).containsExactly("fuck");
+        assertThat(AhoCorasickMatcher.censor("시.발 좋아", matcher.findAll("시.발 좋아"))).isEqualTo("*.* 좋아");
+    }
+
+    @Test
+    void doesNotBridgeWhitespace() {
+        assertThat(words("언니 미안해")).isEmpty();
+        assertThat(words("시 발")).isEmpty();
+    }
+
+    @Test
+    void skipsMatchesInsideAllowedWords() {
+        assertThat(words("이곳이 시발점입니다")).isEmpty();
+        assertThat(words("시발역 앞")).isEmpty();
+        assertThat(words("시발점 시발")).containsExactly("시발");
+    }
+
+    private List<String> words(String text) {
+        return matcher.findAll(text).stream().map(AhoCorasickMatcher.Match::getWord).toList();
+    }
+}
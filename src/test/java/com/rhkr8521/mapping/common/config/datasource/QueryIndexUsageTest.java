@@ -0,0 +1,312 @@
+package com.rhkr8521.mapping.common.config.datasource;
+
+import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
+import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
+import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.memo.cache.MemoPin;
+import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoImageRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.util.BoundingBox;
+import com.rhkr8521.mapping.api.memo.util.GeoUtil;
+import com.rhkr8521.mapping.api.memo.util.MemoCursor;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 조회 쿼리가 인덱스를 사용하는지 EXPLAIN 으로 확인
+ * - 엔티티로 스키마를 만들고(ddl-auto) 마이그레이션까지 적용한 MariaDB 에 데이터를 채운 뒤 실행
+ * - 실제 테이블을 전체 스캔(type = ALL)하거나 인덱스 전체를 훑는(type = index) 쿼리가 있으면 실패
+ * - 리포지토리 메서드를 실제로 호출하고, 그때 Hibernate 가 실행한 SQL 을 같은 파라미터로 EXPLAIN
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FlywayConfig.class, QueryIndexUsageTest.QueryCaptureConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexUsageTest {
+
+    private static final int MEMBER_COUNT = 2000;
+
+    // 지도/반경 조회 기준 좌표 (메모는 위도 20~40, 경도 110~130 에 0.2도 간격으로 분포)
+    private static final double CENTER_LAT = 30.1;
+    private static final double CENTER_LNG = 120.1;
+
+    // 리포지토리 호출 중 실행된 쿼리
+    private static final List<CapturedQuery> CAPTURED_QUERIES = new CopyOnWriteArrayList<>();
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariadb = new MariaDBContainer<>("mariadb:11.4");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberBlockRepository memberBlockRepository;
+
+    @Autowired
+    private MemoRepository memoRepository;
+
+    @Autowired
+    private MemoImageRepository memoImageRepository;
+
+    @Autowired
+    private MemoLikeRepository memoLikeRepository;
+
+    @Autowired
+    private MemoHateRepository memoHateRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 옵티마이저가 인덱스를 고를 만큼 데이터 채움 (탈퇴 회원은 일부만)
+        jdbcTemplate.update("INSERT INTO member (email, nickname, social_id, refresh_token, role, deleted, deleted_at, created_at, updated_at) " +
+                "SELECT CONCAT('user', seq, '@test.com'), CONCAT('nick', seq), CONCAT('social', seq), CONCAT('token', seq), 'USER', " +
+                "seq % 50 = 0, IF(seq % 50 = 0, NOW() - INTERVAL seq HOUR, NULL), NOW(), NOW() " +
+                "FROM seq_1_to_" + MEMBER_COUNT);
+        // 메모는 지도 조회 범위보다 넓게 격자로 분포 (반경/화면 영역 조회가 일부만 읽도록)
+        jdbcTemplate.update("INSERT INTO memo (title, content, lat, lng, category, like_cnt, hate_cnt, secret, certified, modify, " +
+                "is_hidden, is_deleted, user_id, created_at, updated_at) " +
+                "SELECT CONCAT('title', seq), 'content', 20 + (seq % 100) * 0.2, 110 + (seq DIV 100) * 0.2, 'FOOD', 0, 0, " +
+                "seq % 10 = 0, false, false, " +
+                "false, seq % 20 = 0, seq % " + MEMBER_COUNT + " + 1, NOW() - INTERVAL seq MINUTE, NOW() " +
+                "FROM seq_1_to_10000");
+        // SQL 로 넣은 메모는 엔티티 콜백을 거치지 않으므로 geohash 를 직접 채움
+        List<Object[]> geohashes = jdbcTemplate.query("SELECT memo_id, lat, lng FROM memo", (rs, rowNum) -> new Object[]{
+                GeoUtil.encode(rs.getDouble("lat"), rs.getDouble("lng"), GeoUtil.CELL_PRECISION), rs.getLong("memo_id")});
+        jdbcTemplate.batchUpdate("UPDATE memo SET geohash = ? WHERE memo_id = ?", geohashes);
+        jdbcTemplate.update("INSERT INTO memo_image (image_url, memo_id) " +
+                "SELECT CONCAT('https://image/', seq), seq % 10000 + 1 FROM seq_0_to_9999");
+        jdbcTemplate.update("INSERT INTO comment (comment, rating, like_cnt, modify, is_hidden, is_deleted, memo_id, user_id, created_at, updated_at) " +
+                "SELECT 'comment', 5, 0, false, false, false, seq % 10000 + 1, seq % " + MEMBER_COUNT + " + 1, NOW() - INTERVAL seq MINUTE, NOW() " +
+                "FROM seq_0_to_29999");
+        // 반응은 (대상, 회원) 쌍이 겹치지 않도록 회원마다 고르게 분배
+        jdbcTemplate.update("INSERT INTO memo_like (memo_id, user_id) " +
+                "SELECT seq % 10000 + 1, (seq % " + MEMBER_COUNT + " + seq DIV 10000) % " + MEMBER_COUNT + " + 1 " +
+                "FROM seq_0_to_29999");
+        jdbcTemplate.update("INSERT INTO memo_hate (memo_id, user_id) " +
+                "SELECT seq % 10000 + 1, (seq % " + MEMBER_COUNT + " + seq DIV 10000 + 7) % " + MEMBER_COUNT + " + 1 " +
+                "FROM seq_0_to_29999");
+        jdbcTemplate.update("INSERT INTO comment_like (comment_id, user_id) " +
+                "SELECT seq + 1, seq % " + MEMBER_COUNT + " + 1 FROM seq_0_to_29999");
+        jdbcTemplate.update("INSERT INTO member_block (blocker_id, blocked_id, created_at, updated_at) " +
+                "SELECT seq % " + MEMBER_COUNT + " + 1, (seq % " + MEMBER_COUNT + " + seq DIV " + MEMBER_COUNT + " + 1) % " + MEMBER_COUNT + " + 1, NOW(), NOW() " +
+                "FROM seq_0_to_5999");
+
+        jdbcTemplate.execute("ANALYZE TABLE member, memo, memo_image, comment, memo_like, memo_hate, comment_like, member_block");
+    }
+
+    // 리포지토리 메서드 호출 목록 (PER_CLASS 이므로 주입된 리포지토리를 사용하는 인스턴스 메서드로 제공)
+    Stream<Arguments> repositoryCalls() {
+        return Stream.of(
+                // MemberRepository
+                call("MemberRepository.findByEmail", () -> memberRepository.findByEmail("user10@test.com")),
+                call("MemberRepository.findByRefreshToken", () -> memberRepository.findByRefreshToken("token10")),
+                call("MemberRepository.findBySocialId", () -> memberRepository.findBySocialId("social10")),
+                call("MemberRepository.existsByNickname", () -> memberRepository.existsByNickname("nick10")),
+                call("MemberRepository.findExpiredDeletedMemberIds", () -> memberRepository.findExpiredDeletedMemberIds(
+                        LocalDateTime.now().minusDays(30), 0L, PageRequest.of(0, 100))),
+
+                // MemoRepository
+                call("MemoRepository.findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc",
+                        () -> memoRepository.findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(10L)),
+                call("MemoRepository.findLocationsByMemberId",
+                        () -> memoRepository.findLocationsByMemberId(10L, PageRequest.of(0, 200))),
+                call("MemoImageRepository.findByMemoIdIn", () -> memoImageRepository.findByMemoIdIn(List.of(1L, 2L, 3L))),
+
+                // MemoRepository (지도, 반경 조회)
+                call("MemoRepository.findPinPageWithinRadiusInCells", () -> findPinPageWithinRadius(20, true)),
+                call("MemoRepository.findPinPageWithinRadius", () -> findPinPageWithinRadius(40, false)),
+                call("MemoRepository.aggregateClusters", () -> memoRepository.aggregateClusters(3,
+                        29.5, 31.0, 119.0, 121.0, 10L, List.of(-1L))),
+                call("MemoRepository.findPinsInCells", () -> memoRepository.findPinsInCells(
+                        GeoUtil.coveringCells(GeoUtil.boundingBox(CENTER_LAT, CENTER_LNG, 10), GeoUtil.CELL_PRECISION, GeoUtil.MAX_RADIUS_TILES))),
+                call("MemoRepository.findPinsAfter", () -> memoRepository.findPinsAfter(5000L, PageRequest.of(0, 1000))),
+
+                // MemoLikeRepository, MemoHateRepository
+                call("MemoLikeRepository.existsByMemoIdAndMemberId", () -> memoLikeRepository.existsByMemoIdAndMemberId(10L, 10L)),
+                call("MemoLikeRepository.deleteByMemoIdAndMemberId", () -> memoLikeRepository.deleteByMemoIdAndMemberId(10L, 10L)),
+                call("MemoLikeRepository.findLikedMemoIds", () -> memoLikeRepository.findLikedMemoIds(1L, List.of(1L, 2L, 3L))),
+                call("MemoLikeRepository.findReactionsByMemberId", () -> memoLikeRepository.findReactionsByMemberId(1L, 5001)),
+                call("MemoHateRepository.existsByMemoIdAndMemberId", () -> memoHateRepository.existsByMemoIdAndMemberId(10L, 17L)),
+                call("MemoHateRepository.deleteByMemoIdAndMemberId", () -> memoHateRepository.deleteByMemoIdAndMemberId(10L, 17L)),
+
+                // CommentRepository, CommentLikeRepository
+                call("CommentRepository.findByMemoOrderByCreatedAtDesc",
+                        () -> commentRepository.findByMemoOrderByCreatedAtDesc(memoRepository.getReferenceById(10L))),
+                call("CommentRepository.findPageByMemoId",
+                        () -> commentRepository.findPageByMemoId(10L, 20000L, PageRequest.of(0, 21))),
+                call("CommentRepository.findIdsByMemberId", () -> commentRepository.findIdsByMemberId(10L, PageRequest.of(0, 200))),
+                call("CommentRepository.findDistinctMemoByMemberId", () -> commentRepository.findDistinctMemoByMemberId(10L)),
+                call("CommentLikeRepository.existsByCommentIdAndMemberId",
+                        () -> commentLikeRepository.existsByCommentIdAndMemberId(10L, 10L)),
+                call("CommentLikeRepository.deleteByCommentIdAndMemberId",
+                        () -> commentLikeRepository.deleteByCommentIdAndMemberId(10L, 10L)),
+                call("CommentLikeRepository.findLikedCommentIds",
+                        () -> commentLikeRepository.findLikedCommentIds(1L, List.of(1L, 2L, 3L))),
+
+                // MemberBlockRepository
+                call("MemberBlockRepository.findByBlocker",
+                        () -> memberBlockRepository.findByBlocker(memberRepository.getReferenceById(10L))),
+                call("MemberBlockRepository.findBlockerIdsByBlockedId", () -> memberBlockRepository.findBlockerIdsByBlockedId(10L)),
+                call("MemberBlockRepository.deleteByBlockerIdAndBlockedId",
+                        () -> memberBlockRepository.deleteByBlockerIdAndBlockedId(10L, 11L))
+        );
+    }
+
+    // 반경 조회 (MemoService 와 같은 바운딩 박스, 평면 근사 반경, 첫 페이지 커서 사용)
+    private List<MemoPin> findPinPageWithinRadius(double km, boolean useCells) {
+        BoundingBox box = GeoUtil.boundingBox(CENTER_LAT, CENTER_LNG, km);
+        double lngScale = GeoUtil.lngScale(CENTER_LAT);
+        double maxDistance = GeoUtil.planarRadius(CENTER_LAT, km);
+        MemoCursor cursor = MemoCursor.FIRST;
+        if (useCells) {
+            List<String> cells = GeoUtil.coveringCells(box, GeoUtil.CELL_PRECISION, GeoUtil.MAX_COVERING_CELLS);
+            assertThat(cells).isNotEmpty();
+            return memoRepository.findPinPageWithinRadiusInCells(cells, CENTER_LAT, CENTER_LNG, lngScale,
+                    box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(), maxDistance,
+                    10L, List.of(-1L), cursor.getDistance(), cursor.getId(), PageRequest.of(0, 201));
+        }
+        return memoRepository.findPinPageWithinRadius(CENTER_LAT, CENTER_LNG, lngScale,
+                box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng(), maxDistance,
+                10L, List.of(-1L), cursor.getDistance(), cursor.getId(), PageRequest.of(0, 201));
+    }
+
+    private static Arguments call(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    void usesIndex(String name, Runnable call) {
+        // 수정 쿼리도 실행할 수 있도록 트랜잭션 안에서 호출하고, 데이터가 바뀌지 않도록 롤백
+        CAPTURED_QUERIES.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        });
+        List<CapturedQuery> queries = List.copyOf(CAPTURED_QUERIES);
+
+        assertThat(queries).as("%s: 실행된 쿼리 없음", name).isNotEmpty();
+        for (CapturedQuery query : queries) {
+            assertUsesIndex(name, query);
+        }
+    }
+
+    // 실행된 SQL 에 같은 파라미터를 바인딩하여 EXPLAIN
+    private void assertUsesIndex(String name, CapturedQuery query) {
+        List<Map<String, Object>> plan = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql());
+            for (ParameterSetOperation parameter : query.parameters()) {
+                try {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("파라미터 바인딩 실패: " + query.sql(), e);
+                }
+            }
+            return statement;
+        }, new ColumnMapRowMapper());
+
+        assertThat(plan).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            String table = String.valueOf(row.get("table"));
+            String type = String.valueOf(row.get("type"));
+            // <derived2>, <union1,2> 같은 임시 결과는 제외하고 실제 테이블만 검사
+            if (table.startsWith("<")) {
+                continue;
+            }
+            assertThat(type)
+                    .as("%s: %s 테이블 전체 스캔 (%s)\n%s", name, table, row, query.sql())
+                    .isNotIn("ALL", "index");
+        }
+    }
+
+    private record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    /**
+     * 애플리케이션 DataSource 를 datasource-proxy 로 감싸 Hibernate 가 실행한 SQL 과 바인딩 파라미터를 기록
+     */
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .afterQuery((execution, queries) -> {
+                                for (QueryInfo query : queries) {
+                                    List<List<ParameterSetOperation>> parameters = query.getParametersList();
+                                    CAPTURED_QUERIES.add(new CapturedQuery(query.getQuery(),
+                                            parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+    }
+}
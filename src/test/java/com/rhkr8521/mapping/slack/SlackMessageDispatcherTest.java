@@ -0,0 +1,76 @@
+package com.rhkr8521.mapping.slack;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackMessageDispatcherTest {
+
+    private HttpServer server;
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 슬랙 웹훅 대신 요청 본문을 기록하는 로컬 스텁 서버
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/webhook", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private String webhookUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook";
+    }
+
+    @Test
+    void batchesMessagesAndSuppressesDuplicates() {
+        SlackMessageDispatcher dispatcher = new SlackMessageDispatcher(webhookUrl(), new RestTemplate(),
+                100, 20, 500, 0, 60_000);
+        dispatcher.start();
+
+        assertThat(dispatcher.enqueue("[오류] A")).isTrue();
+        assertThat(dispatcher.enqueue("[신고] \"B\"")).isTrue();
+        assertThat(dispatcher.enqueue("[오류] A")).isFalse();
+        assertThat(dispatcher.enqueue("[회원] C")).isTrue();
+
+        dispatcher.close();
+
+        assertThat(receivedBodies).hasSize(1);
+        String body = receivedBodies.get(0);
+        assertThat(body).contains("[오류] A", "[신고] \\\"B\\\"", "[회원] C", "중복 메시지 1건 생략");
+        assertThat(body.indexOf("[오류] A")).isEqualTo(body.lastIndexOf("[오류] A"));
+    }
+
+    @Test
+    void dropsMessagesWhenQueueIsFull() {
+        // 전송 스레드를 시작하지 않아 대기열이 비워지지 않는 상태
+        SlackMessageDispatcher dispatcher = new SlackMessageDispatcher(webhookUrl(), new RestTemplate(),
+                2, 20, 0, 0, 60_000);
+
+        assertThat(dispatcher.enqueue("1")).isTrue();
+        assertThat(dispatcher.enqueue("2")).isTrue();
+        assertThat(dispatcher.enqueue("3")).isFalse();
+    }
+}